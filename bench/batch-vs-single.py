@@ -0,0 +1,65 @@
+#!/usr/bin/env python3
+"""
+Compares create throughput of POST /api/v1/todos (one todo per call) against
+POST /api/v1/todos/batch (many todos per call, one transaction, JDBC-batched inserts).
+
+Run against a local instance started with ./gradlew bootRun:
+    ./bench/batch-vs-single.py --base-url http://localhost:8080 --todos 5000 --batch-size 100
+"""
+import argparse
+import json
+import time
+import urllib.request
+from concurrent.futures import ThreadPoolExecutor
+
+
+def post(url, payload):
+    request = urllib.request.Request(
+        url,
+        data=json.dumps(payload).encode("utf-8"),
+        headers={"Content-Type": "application/json"},
+        method="POST",
+    )
+    with urllib.request.urlopen(request) as response:
+        response.read()
+        return response.status
+
+
+def todo(i):
+    return {"title": f"Bench todo {i}", "priority": "MEDIUM", "tags": "bench"}
+
+
+def run(label, calls, concurrency, todos):
+    started = time.perf_counter()
+    with ThreadPoolExecutor(max_workers=concurrency) as pool:
+        statuses = list(pool.map(lambda call: call(), calls))
+    elapsed = time.perf_counter() - started
+    errors = sum(1 for status in statuses if status >= 400)
+    print(f"{label:<8} {todos:>8} todos  {len(calls):>6} calls  {elapsed:8.2f}s  "
+          f"{todos / elapsed:10.1f} todos/s  errors={errors}")
+
+
+def main():
+    parser = argparse.ArgumentParser()
+    parser.add_argument("--base-url", default="http://localhost:8080")
+    parser.add_argument("--todos", type=int, default=5000)
+    parser.add_argument("--batch-size", type=int, default=100)
+    parser.add_argument("--concurrency", type=int, default=8)
+    args = parser.parse_args()
+
+    todos_url = f"{args.base_url}/api/v1/todos"
+    batch_url = f"{todos_url}/batch"
+
+    single_calls = [lambda i=i: post(todos_url, todo(i)) for i in range(args.todos)]
+    run("single", single_calls, args.concurrency, args.todos)
+
+    batch_calls = []
+    for start in range(0, args.todos, args.batch_size):
+        operations = [{"type": "CREATE", "create": todo(i)}
+                      for i in range(start, min(start + args.batch_size, args.todos))]
+        batch_calls.append(lambda operations=operations: post(batch_url, {"operations": operations}))
+    run("batch", batch_calls, args.concurrency, args.todos)
+
+
+if __name__ == "__main__":
+    main()
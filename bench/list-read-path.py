@@ -0,0 +1,87 @@
+#!/usr/bin/env python3
+"""
+Measures latency and server-side allocation of the list endpoints on cache misses.
+
+Every request asks for a different page or cursor slice, so each one goes through the
+database read path rather than the page cache. Allocation is read from the
+jvm.gc.memory.allocated counter before and after each endpoint's run. That counter
+covers the whole JVM, so keep other traffic away from the instance while this runs.
+
+Seed the table first (e.g. with batch-vs-single.py), flush Redis, then run:
+    ./bench/list-read-path.py --base-url http://localhost:8080 --requests 2000
+Run it once on each build you want to compare.
+"""
+import argparse
+import json
+import time
+import urllib.request
+from concurrent.futures import ThreadPoolExecutor
+
+
+def get_json(url):
+    with urllib.request.urlopen(url) as response:
+        return json.loads(response.read())
+
+
+def allocated_bytes(base_url):
+    metric = get_json(f"{base_url}/actuator/metrics/jvm.gc.memory.allocated")
+    return metric["measurements"][0]["value"]
+
+
+def timed_get(url):
+    started = time.perf_counter()
+    with urllib.request.urlopen(url) as response:
+        response.read()
+    return (time.perf_counter() - started) * 1000
+
+
+def percentile(samples, p):
+    ordered = sorted(samples)
+    return ordered[min(len(ordered) - 1, int(len(ordered) * p))]
+
+
+def run(label, base_url, urls, concurrency):
+    before = allocated_bytes(base_url)
+    with ThreadPoolExecutor(max_workers=concurrency) as pool:
+        latencies = list(pool.map(timed_get, urls))
+    allocated = allocated_bytes(base_url) - before
+    print(f"{label:<10} {len(urls):>6} req  p50={percentile(latencies, 0.50):7.2f}ms  "
+          f"p99={percentile(latencies, 0.99):7.2f}ms  alloc/req={allocated / len(urls) / 1024:8.1f} KiB")
+
+
+def cursor_urls(base_url, count, size):
+    # Walk the cursor chain once up front; the timed run then replays the slices
+    urls, cursor = [], None
+    while len(urls) < count:
+        url = f"{base_url}/api/v1/todos?limit={size}" + (f"&after={cursor}" if cursor else "")
+        urls.append(url)
+        cursor = get_json(url).get("nextCursor")
+        if cursor is None:
+            break
+    return urls
+
+
+def main():
+    parser = argparse.ArgumentParser()
+    parser.add_argument("--base-url", default="http://localhost:8080")
+    parser.add_argument("--requests", type=int, default=2000)
+    parser.add_argument("--size", type=int, default=20)
+    parser.add_argument("--concurrency", type=int, default=8)
+    args = parser.parse_args()
+
+    todos_url = f"{args.base_url}/api/v1/todos"
+    size = args.size
+    run("list", args.base_url,
+        [f"{todos_url}?page={page}&size={size}" for page in range(args.requests)], args.concurrency)
+    run("filter", args.base_url,
+        [f"{todos_url}/filter?completed=false&page={page}&size={size}" for page in range(args.requests)],
+        args.concurrency)
+    run("search", args.base_url,
+        [f"{todos_url}/search?query=todo&page={page}&size={size}" for page in range(args.requests)],
+        args.concurrency)
+    # Walking the chain caches every slice, so this run shows the cache-hit path
+    run("cursor", args.base_url, cursor_urls(args.base_url, args.requests, size), args.concurrency)
+
+
+if __name__ == "__main__":
+    main()
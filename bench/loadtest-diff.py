@@ -0,0 +1,71 @@
+#!/usr/bin/env python3
+"""
+Compare two load-test reports written by ./gradlew loadTest.
+
+    ./gradlew loadTest -Ploadtest.label=$(git rev-parse --short HEAD) -Ploadtest.report=build/reports/loadtest/new.json
+    ./bench/loadtest-diff.py baseline.json build/reports/loadtest/new.json
+
+Prints throughput, latency percentiles, errors, Redis hit ratio and pool wait for the
+summary and every operation, with the relative change. Runs are only comparable when
+their config blocks match; a differing config is reported first.
+"""
+import json
+import sys
+
+LATENCY_KEYS = ["p50", "p90", "p99", "p999", "max"]
+
+
+def change(old, new):
+    if old in (None, 0) or new is None:
+        return ""
+    return f"{(new - old) / old * 100:+.1f}%"
+
+
+def row(name, old, new):
+    print(f"  {name:<28} {fmt(old):>12} {fmt(new):>12} {change(old, new):>9}")
+
+
+def fmt(value):
+    if value is None:
+        return "-"
+    return f"{value:.3f}" if isinstance(value, float) else str(value)
+
+
+def section(title, old, new):
+    print(title)
+    row("throughput/s", old.get("throughputPerSecond"), new.get("throughputPerSecond"))
+    for key in LATENCY_KEYS:
+        row(f"latency {key} ms", old.get("latencyMs", {}).get(key), new.get("latencyMs", {}).get(key))
+    row("errors", old.get("errors"), new.get("errors"))
+    row("dropped", old.get("dropped"), new.get("dropped"))
+
+
+def main():
+    if len(sys.argv) != 3:
+        sys.exit(f"usage: {sys.argv[0]} BASELINE.json CANDIDATE.json")
+    with open(sys.argv[1]) as f:
+        old = json.load(f)
+    with open(sys.argv[2]) as f:
+        new = json.load(f)
+
+    print(f"baseline:  {old.get('label') or sys.argv[1]}")
+    print(f"candidate: {new.get('label') or sys.argv[2]}")
+    if old["config"] != new["config"]:
+        print("WARNING: the runs used different configurations")
+        for key in sorted(set(old["config"]) | set(new["config"])):
+            if old["config"].get(key) != new["config"].get(key):
+                print(f"  {key}: {old['config'].get(key)} -> {new['config'].get(key)}")
+    print()
+
+    section("summary", old["summary"], new["summary"])
+    row("redis hit ratio", old["cache"].get("redisHitRatio"), new["cache"].get("redisHitRatio"))
+    row("pool wait mean ms", old["dbPool"].get("acquireWaitMeanMs"), new["dbPool"].get("acquireWaitMeanMs"))
+    row("pool wait total ms", old["dbPool"].get("acquireWaitTotalMs"), new["dbPool"].get("acquireWaitTotalMs"))
+    for name in new["operations"]:
+        if name in old["operations"]:
+            print()
+            section(name, old["operations"][name], new["operations"][name])
+
+
+if __name__ == "__main__":
+    main()
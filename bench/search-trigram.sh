@@ -0,0 +1,65 @@
+#!/usr/bin/env bash
+#
+# Measures /search query latency as the todos table grows, with and without the
+# trigram index from V3__add_title_trigram_index.sql.
+#
+# Runs against a scratch database (dropped and recreated), never the app database:
+#   PGHOST=localhost PGPORT=5434 PGUSER=postgres PGPASSWORD=postgres ./bench/search-trigram.sh
+#
+# Each size is seeded with random titles plus a fixed set of 50 rows titled
+# "Quarterly budget review", so the selective query below always matches the
+# same number of rows and its latency should stay flat as the table grows.
+
+set -euo pipefail
+
+BENCH_DB=${BENCH_DB:-todolist_bench}
+SIZES=${SIZES:-"10000 100000 1000000 10000000"}
+RUNS=${RUNS:-5}
+MIGRATIONS_DIR="$(cd "$(dirname "$0")/.." && pwd)/src/main/resources/db/migration"
+
+psql -q -d postgres -c "DROP DATABASE IF EXISTS ${BENCH_DB}"
+psql -q -d postgres -c "CREATE DATABASE ${BENCH_DB}"
+for migration in $(ls "${MIGRATIONS_DIR}"/V*.sql | sort -V); do
+    psql -q -d "${BENCH_DB}" -f "${migration}"
+done
+
+run_query() {
+    local label=$1 sql=$2 best=""
+    for _ in $(seq "${RUNS}"); do
+        local ms
+        ms=$(psql -qtA -d "${BENCH_DB}" -c "EXPLAIN (ANALYZE, FORMAT JSON) ${sql}" \
+            | python3 -c 'import json,sys; print(json.load(sys.stdin)[0]["Execution Time"])')
+        if [[ -z "${best}" ]] || (( $(echo "${ms} < ${best}" | bc -l) )); then
+            best=${ms}
+        fi
+    done
+    printf '%-12s %-10s %10s ms\n' "${rows}" "${label}" "${best}"
+}
+
+SEARCH="SELECT * FROM todos WHERE title ILIKE '%budget rev%' ESCAPE '!' ORDER BY created_at DESC LIMIT 20"
+
+printf '%-12s %-10s %13s\n' "rows" "mode" "best of ${RUNS}"
+previous=0
+for rows in ${SIZES}; do
+    psql -q -d "${BENCH_DB}" <<SQL
+INSERT INTO todos (title, description, priority, tags, created_at, updated_at)
+SELECT (ARRAY['Write report','Plan meeting','Fix bug','Deploy service','Call vendor'])[1 + (g % 5)]
+           || ' ' || md5(g::text),
+       'Seeded for search benchmark',
+       (ARRAY['LOW','MEDIUM','HIGH'])[1 + (g % 3)],
+       'bench',
+       now() - (g || ' seconds')::interval,
+       now()
+FROM generate_series(${previous} + 1, ${rows} - 50) AS g;
+INSERT INTO todos (title, priority) SELECT 'Quarterly budget review', 'HIGH' FROM generate_series(1, 50);
+DELETE FROM todos WHERE title = 'Quarterly budget review' AND id NOT IN (
+    SELECT id FROM todos WHERE title = 'Quarterly budget review' ORDER BY id DESC LIMIT 50);
+VACUUM ANALYZE todos;
+SQL
+    previous=$((rows - 50))
+
+    run_query "trigram" "${SEARCH}"
+    psql -q -d "${BENCH_DB}" -c "DROP INDEX idx_todos_title_trgm"
+    run_query "seqscan" "${SEARCH}"
+    psql -q -d "${BENCH_DB}" -c "CREATE INDEX idx_todos_title_trgm ON todos USING gin (title gin_trgm_ops)"
+done
@@ -0,0 +1,69 @@
+#!/usr/bin/env bash
+#
+# Measures time-to-ready: from JVM launch until /actuator/health/readiness reports UP,
+# for the plain jar and for the fast-startup build (Spring AOT plus a class data sharing
+# archive), the two modes of the Dockerfile.
+#
+# Needs the PostgreSQL and Redis the application normally uses (see Local Development):
+#   ./bench/startup-time.sh
+#   RUNS=10 MIGRATIONS_MODE=skip ./bench/startup-time.sh
+#
+# Besides the wall-clock time the script reports Spring's own application.ready.time,
+# which leaves out JVM start-up and class loading before main.
+
+set -euo pipefail
+
+RUNS=${RUNS:-5}
+PORT=${PORT:-18080}
+MIGRATIONS_MODE=${MIGRATIONS_MODE:-leader}
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+WORK="${ROOT}/build/startup-bench"
+
+build() {
+    local variant=$1; shift
+    (cd "${ROOT}" && ./gradlew -q bootJar -x test "$@")
+    rm -rf "${WORK:?}/${variant}" && mkdir -p "${WORK}/${variant}"
+    cp "$(ls "${ROOT}"/build/libs/*.jar | grep -v -- '-plain.jar')" "${WORK}/${variant}/app.jar"
+    (cd "${WORK}/${variant}" && java -Djarmode=tools -jar app.jar extract --destination app >/dev/null)
+}
+
+# Same training run as the Dockerfile
+train() {
+    (cd "${WORK}/fast" && SPRING_JPA_PROPERTIES_HIBERNATE_BOOT_ALLOW_JDBC_METADATA_ACCESS=false \
+        java -XX:ArchiveClassesAtExit=app.jsa -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+        -jar app/app.jar >/dev/null 2>&1)
+}
+
+measure() {
+    local variant=$1; shift
+    local times=()
+    for run in $(seq "${RUNS}"); do
+        local start pid ready_ms spring_s
+        start=$(date +%s%N)
+        (cd "${WORK}/${variant}" && exec java "$@" -jar app/app.jar \
+            --server.port="${PORT}" --todolist.migrations.mode="${MIGRATIONS_MODE}" >/dev/null 2>&1) &
+        pid=$!
+        until curl -sf "http://localhost:${PORT}/actuator/health/readiness" | grep -q '"UP"'; do
+            if ! kill -0 "${pid}" 2>/dev/null; then
+                echo "${variant}: application exited before becoming ready" >&2
+                exit 1
+            fi
+            sleep 0.05
+        done
+        ready_ms=$(( ($(date +%s%N) - start) / 1000000 ))
+        spring_s=$(curl -sf "http://localhost:${PORT}/actuator/metrics/application.ready.time" \
+            | python3 -c 'import json,sys; print(json.load(sys.stdin)["measurements"][0]["value"])')
+        kill "${pid}" && wait "${pid}" 2>/dev/null || true
+        printf '%-6s run %-3s %8s ms   application.ready.time %6.3f s\n' "${variant}" "${run}" "${ready_ms}" "${spring_s}"
+        times+=("${ready_ms}")
+    done
+    printf '%-6s median %8s ms\n\n' "${variant}" \
+        "$(printf '%s\n' "${times[@]}" | sort -n | awk '{ a[NR] = $1 } END { print a[int((NR + 1) / 2)] }')"
+}
+
+build plain
+build fast -Paot
+train
+
+measure plain
+measure fast -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true
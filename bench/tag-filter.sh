@@ -0,0 +1,61 @@
+#!/usr/bin/env bash
+#
+# Measures tag filter latency (any/all) as the todos table grows, using the GIN index on
+# the generated tag_list column from V5__add_normalized_tag_list.sql.
+#
+# Runs against a scratch database (dropped and recreated), never the app database:
+#   PGHOST=localhost PGPORT=5434 PGUSER=postgres PGPASSWORD=postgres ./bench/tag-filter.sh
+#
+# Seeded rows draw two tags from a pool of 1000, so a single tag matches ~0.2% of rows;
+# 50 rows per size carry the rare tag "release-blocker".
+
+set -euo pipefail
+
+BENCH_DB=${BENCH_DB:-todolist_bench}
+SIZES=${SIZES:-"100000 1000000 5000000"}
+RUNS=${RUNS:-5}
+MIGRATIONS_DIR="$(cd "$(dirname "$0")/.." && pwd)/src/main/resources/db/migration"
+
+psql -q -d postgres -c "DROP DATABASE IF EXISTS ${BENCH_DB}"
+psql -q -d postgres -c "CREATE DATABASE ${BENCH_DB}"
+for migration in $(ls "${MIGRATIONS_DIR}"/V*.sql | sort -V); do
+    psql -q -d "${BENCH_DB}" -f "${migration}"
+done
+
+run_query() {
+    local label=$1 sql=$2 best=""
+    for _ in $(seq "${RUNS}"); do
+        local ms
+        ms=$(psql -qtA -d "${BENCH_DB}" -c "EXPLAIN (ANALYZE, FORMAT JSON) ${sql}" \
+            | python3 -c 'import json,sys; print(json.load(sys.stdin)[0]["Execution Time"])')
+        if [[ -z "${best}" ]] || (( $(echo "${ms} < ${best}" | bc -l) )); then
+            best=${ms}
+        fi
+    done
+    printf '%-12s %-10s %10s ms\n' "${rows}" "${label}" "${best}"
+}
+
+ANY_RARE="SELECT * FROM todos WHERE tag_list && '{release-blocker}'::text[] ORDER BY created_at DESC, id DESC LIMIT 21"
+ALL_TWO="SELECT * FROM todos WHERE tag_list @> '{tag-7,tag-8}'::text[] ORDER BY created_at DESC, id DESC LIMIT 21"
+ANY_COMMON="SELECT * FROM todos WHERE tag_list && '{tag-7}'::text[] ORDER BY created_at DESC, id DESC LIMIT 21"
+
+printf '%-12s %-10s %13s\n' "rows" "query" "best of ${RUNS}"
+previous=0
+for rows in ${SIZES}; do
+    psql -q -d "${BENCH_DB}" <<SQL
+INSERT INTO todos (title, priority, tags, created_at, updated_at)
+SELECT 'Tagged todo ' || g,
+       'MEDIUM',
+       'tag-' || (g % 1000) || ',tag-' || ((g * 7 + 1) % 1000),
+       now() - (g || ' seconds')::interval,
+       now()
+FROM generate_series(${previous} + 1, ${rows} - 50) AS g;
+INSERT INTO todos (title, priority, tags) SELECT 'Blocker', 'HIGH', 'release-blocker' FROM generate_series(1, 50);
+VACUUM ANALYZE todos;
+SQL
+    previous=$((rows - 50))
+
+    run_query "any-rare" "${ANY_RARE}"
+    run_query "all-two" "${ALL_TWO}"
+    run_query "any-common" "${ANY_COMMON}"
+done
@@ -0,0 +1,77 @@
+#!/usr/bin/env python3
+"""
+Closed-loop load test for comparing platform-thread and virtual-thread request handling.
+
+Start the application once per mode and run this script against each:
+    ./gradlew bootRun                                          # platform threads
+    SPRING_PROFILES_ACTIVE=virtual ./gradlew bootRun           # virtual threads + bulkhead
+    ./bench/virtual-threads.py --label platform --concurrency 400 --duration 60
+    ./bench/virtual-threads.py --label virtual --concurrency 400 --duration 60
+
+Requests cycle over uncached list pages and single todos, so most of them reach the
+database. 503 responses (bulkhead rejections) are counted separately from other errors
+and left out of the latency percentiles.
+"""
+import argparse
+import random
+import threading
+import time
+import urllib.error
+import urllib.request
+
+
+def worker(urls, deadline, results, lock):
+    local = []
+    while time.perf_counter() < deadline:
+        url = random.choice(urls)
+        started = time.perf_counter()
+        try:
+            with urllib.request.urlopen(url, timeout=60) as response:
+                response.read()
+                status = response.status
+        except urllib.error.HTTPError as error:
+            status = error.code
+        except OSError:
+            status = 0
+        local.append((status, (time.perf_counter() - started) * 1000))
+    with lock:
+        results.extend(local)
+
+
+def percentile(samples, p):
+    ordered = sorted(samples)
+    return ordered[min(len(ordered) - 1, int(len(ordered) * p))] if ordered else float("nan")
+
+
+def main():
+    parser = argparse.ArgumentParser()
+    parser.add_argument("--base-url", default="http://localhost:8080")
+    parser.add_argument("--label", default="run")
+    parser.add_argument("--concurrency", type=int, default=200)
+    parser.add_argument("--duration", type=int, default=60)
+    parser.add_argument("--max-id", type=int, default=10000)
+    args = parser.parse_args()
+
+    todos_url = f"{args.base_url}/api/v1/todos"
+    urls = [f"{todos_url}?page={page}&size=20" for page in range(500)]
+    urls += [f"{todos_url}/{todo_id}" for todo_id in range(1, args.max_id + 1)]
+
+    results, lock = [], threading.Lock()
+    deadline = time.perf_counter() + args.duration
+    threads = [threading.Thread(target=worker, args=(urls, deadline, results, lock))
+               for _ in range(args.concurrency)]
+    for thread in threads:
+        thread.start()
+    for thread in threads:
+        thread.join()
+
+    ok = [ms for status, ms in results if status == 200 or status == 404]
+    rejected = sum(1 for status, _ in results if status == 503)
+    errors = len(results) - len(ok) - rejected
+    print(f"{args.label:<10} concurrency={args.concurrency}  {len(ok) / args.duration:9.1f} req/s  "
+          f"p50={percentile(ok, 0.50):8.2f}ms  p99={percentile(ok, 0.99):8.2f}ms  "
+          f"503={rejected}  errors={errors}")
+
+
+if __name__ == "__main__":
+    main()
@@ -2,9 +2,21 @@ plugins {
 	java
 	id("org.springframework.boot") version "4.0.0"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2"
 	jacoco
 }
 
+// Fast-startup build: ./gradlew bootJar -Paot runs Spring AOT processing and packages the
+// generated code; start the jar with -Dspring.aot.enabled=true (the Dockerfile's FAST_STARTUP does).
+// Bean conditions are evaluated at build time, so pass the runtime profiles: -PaotProfiles=prod
+// (todolist.stream/bulkhead/datasource.routing.enabled are fixed from then on)
+if (project.hasProperty("aot")) {
+	apply(plugin = "org.springframework.boot.aot")
+	tasks.named<org.springframework.boot.gradle.tasks.aot.ProcessAot>("processAot") {
+		project.findProperty("aotProfiles")?.let { args("--spring.profiles.active=$it") }
+	}
+}
+
 group = "com.miniproject"
 version = "0.0.1-SNAPSHOT"
 description = "Demo project for Spring Boot"
@@ -19,6 +31,15 @@ repositories {
 	mavenCentral()
 }
 
+// End-to-end load test (src/loadTest/java): ./gradlew loadTest
+val loadTest: SourceSet by sourceSets.creating {
+	compileClasspath += sourceSets.main.get().output
+	runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[loadTest.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[loadTest.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
 dependencies {
 	// Spring Boot Starters
 	implementation("org.springframework.boot:spring-boot-starter")
@@ -32,8 +53,15 @@ dependencies {
 	// Monitoring & Metrics
 	implementation("io.micrometer:micrometer-registry-prometheus")
 
+	// In-process near cache
+	implementation("com.github.ben-manes.caffeine:caffeine")
+
+	// Compression of large binary cache entries
+	implementation("org.lz4:lz4-java:1.8.0")
+
 	// Database
-	runtimeOnly("org.postgresql:postgresql")
+	// pgjdbc is needed at compile time for the COPY-based importer
+	implementation("org.postgresql:postgresql")
 	implementation("org.flywaydb:flyway-core")
 	implementation("org.flywaydb:flyway-database-postgresql")
 
@@ -49,13 +77,30 @@ dependencies {
 
 	// Testing
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
+	testImplementation("org.springframework.boot:spring-boot-starter-webmvc-test")
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+	// Load test: local PostgreSQL and Redis processes, latency histograms
+	"loadTestImplementation"("io.zonky.test:embedded-postgres:2.1.0")
+	"loadTestImplementation"(enforcedPlatform("io.zonky.test.postgres:embedded-postgres-binaries-bom:16.4.0"))
+	"loadTestImplementation"("com.github.codemonstur:embedded-redis:1.4.3")
+	"loadTestImplementation"("org.hdrhistogram:HdrHistogram:2.2.2")
 }
 
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
 
+// Every -Ploadtest.* property is handed to the load test, e.g. -Ploadtest.rate=500 -Ploadtest.duration=5m
+tasks.register<JavaExec>("loadTest") {
+	group = "verification"
+	description = "Runs the application against local PostgreSQL and Redis under a mixed open-model workload."
+	classpath = loadTest.runtimeClasspath
+	mainClass.set("com.miniproject.todolist.loadtest.LoadTestMain")
+	systemProperties(project.properties.filterKeys { it.startsWith("loadtest.") })
+	maxHeapSize = "2g"
+}
+
 // JaCoCo Configuration
 jacoco {
 	toolVersion = "0.8.11"
@@ -83,5 +128,16 @@ tasks.jacocoTestCoverageVerification {
 	}
 }
 
+// JMH microbenchmarks (src/jmh/java): ./gradlew jmh
+// Results, including allocation per operation from the GC profiler, land in build/results/jmh/results.json
+jmh {
+	jmhVersion.set("1.37")
+	profilers.add("gc")
+	resultFormat.set("JSON")
+	fork.set(1)
+	warmupIterations.set(3)
+	iterations.set(5)
+}
+
 // SonarQube analysis is configured in GitHub Actions workflow
 // using the official SonarCloud GitHub Action
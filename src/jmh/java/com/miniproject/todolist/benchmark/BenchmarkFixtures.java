@@ -0,0 +1,75 @@
+package com.miniproject.todolist.benchmark;
+
+import com.miniproject.todolist.dto.TodoCreateRequest;
+import com.miniproject.todolist.dto.TodoResponse;
+import com.miniproject.todolist.entity.Todo;
+import com.miniproject.todolist.enums.Priority;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Representative payloads shared by the benchmarks: a todo with every field set and a
+ * description of typical length.
+ */
+public final class BenchmarkFixtures {
+
+    public static final int PAGE_SIZE = 20;
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 11, 26, 10, 0, 0);
+
+    private BenchmarkFixtures() {
+    }
+
+    public static Todo todo(long id) {
+        Todo todo = new Todo();
+        todo.setId(id);
+        todo.setTitle("Prepare quarterly budget review " + id);
+        todo.setDescription("Collect the numbers from finance, compare against the plan and draft the slides for Monday.");
+        todo.setCompleted(id % 3 == 0);
+        todo.setPriority(Priority.values()[(int) (id % 3)]);
+        todo.setDueDate(CREATED_AT.plusDays(7));
+        todo.setTags("work,finance,q4");
+        todo.setCreatedAt(CREATED_AT.plusMinutes(id));
+        todo.setUpdatedAt(CREATED_AT.plusMinutes(id + 5));
+        todo.setVersion(1L);
+        return todo;
+    }
+
+    public static TodoResponse response(long id) {
+        Todo todo = todo(id);
+        return new TodoResponse(todo.getId(), todo.getTitle(), todo.getDescription(), todo.getCompleted(),
+                todo.getPriority(), todo.getDueDate(), todo.getTags(), todo.getCreatedAt(), todo.getUpdatedAt(),
+                todo.getVersion());
+    }
+
+    public static Page<TodoResponse> page() {
+        List<TodoResponse> content = new ArrayList<>();
+        for (int i = 1; i <= PAGE_SIZE; i++) {
+            content.add(response(i));
+        }
+        return new PageImpl<>(content, PageRequest.of(0, PAGE_SIZE, Sort.by("createdAt").descending()), 1000);
+    }
+
+    public static TodoCreateRequest validCreateRequest() {
+        TodoCreateRequest request = new TodoCreateRequest();
+        request.setTitle("Prepare quarterly budget review");
+        request.setDescription("Collect the numbers from finance and draft the slides.");
+        request.setPriority(Priority.HIGH);
+        request.setDueDate(CREATED_AT.plusDays(7));
+        request.setTags("work,finance");
+        return request;
+    }
+
+    public static TodoCreateRequest invalidCreateRequest() {
+        TodoCreateRequest request = validCreateRequest();
+        request.setTitle(" ");
+        request.setTags("x".repeat(300));
+        return request;
+    }
+}
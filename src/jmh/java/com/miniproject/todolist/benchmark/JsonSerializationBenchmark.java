@@ -0,0 +1,48 @@
+package com.miniproject.todolist.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.miniproject.todolist.config.JacksonConfig;
+import com.miniproject.todolist.dto.TodoResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response body serialization with the mapper the web layer builds from JacksonConfig.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+    private ObjectWriter writer;
+    private TodoResponse todo;
+    private Page<TodoResponse> page;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new JacksonConfig().jacksonBuilder().build();
+        writer = objectMapper.writer();
+        todo = BenchmarkFixtures.response(42);
+        page = BenchmarkFixtures.page();
+    }
+
+    @Benchmark
+    public byte[] serializeTodo() throws JsonProcessingException {
+        return writer.writeValueAsBytes(todo);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,80 @@
+package com.miniproject.todolist.benchmark;
+
+import com.miniproject.todolist.config.CacheConfig;
+import com.miniproject.todolist.dto.CachedPage;
+import com.miniproject.todolist.dto.TodoResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache value round-trips through the Redis serializers configured in CacheConfig, JSON
+ * versus the binary format, with a typical and a long description.
+ * <p>
+ * Serialized sizes are printed once per trial as {@code # bytes per entry}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RedisSerializerBenchmark {
+
+    @Param({"json", "binary"})
+    private String format;
+
+    @Param({"typical", "long"})
+    private String description;
+
+    private RedisSerializer<Object> serializer;
+    private TodoResponse todo;
+    private CachedPage page;
+    private byte[] todoBytes;
+    private byte[] pageBytes;
+
+    @Setup
+    public void setUp() {
+        CacheConfig cacheConfig = new CacheConfig();
+        GenericJackson2JsonRedisSerializer json = cacheConfig.jackson2JsonRedisSerializer();
+        serializer = "binary".equals(format) ? cacheConfig.todoBinaryRedisSerializer(json, 1024) : json;
+
+        todo = BenchmarkFixtures.response(42);
+        page = CachedPage.of(BenchmarkFixtures.page());
+        if ("long".equals(description)) {
+            String longDescription = todo.getDescription().repeat(40);
+            todo.setDescription(longDescription);
+            page.getContent().forEach(item -> item.setDescription(longDescription));
+        }
+        todoBytes = serializer.serialize(todo);
+        pageBytes = serializer.serialize(page);
+        System.out.printf("# bytes per entry (%s, %s): todo=%d, page of %d=%d%n",
+                format, description, todoBytes.length, page.getContent().size(), pageBytes.length);
+    }
+
+    @Benchmark
+    public byte[] serializeTodo() {
+        return serializer.serialize(todo);
+    }
+
+    @Benchmark
+    public Object deserializeTodo() {
+        return serializer.deserialize(todoBytes);
+    }
+
+    @Benchmark
+    public byte[] serializePage() {
+        return serializer.serialize(page);
+    }
+
+    @Benchmark
+    public Object deserializePage() {
+        return serializer.deserialize(pageBytes);
+    }
+}
@@ -0,0 +1,73 @@
+package com.miniproject.todolist.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.miniproject.todolist.cache.CachedTodoJson;
+import com.miniproject.todolist.cache.TodoJsonCache;
+import com.miniproject.todolist.cache.TodoJsonRedisSerializer;
+import com.miniproject.todolist.config.CacheConfig;
+import com.miniproject.todolist.config.JacksonConfig;
+import com.miniproject.todolist.dto.TodoResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Work done for a GET /api/v1/todos/{id} cache hit up to the response body bytes, before
+ * (todos cache: read a TodoResponse, serialize it for MVC) and after (todosJson cache: the
+ * stored bytes). {@code *Redis} starts from the Redis value, {@code *Local} from the
+ * in-process entry. Sample mode reports p99; the gc profiler reports gc.alloc.rate.norm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TodoReadHitBenchmark {
+
+    private GenericJackson2JsonRedisSerializer objectSerializer;
+    private TodoJsonRedisSerializer jsonSerializer;
+    private ObjectWriter mvcWriter;
+    private TodoResponse todo;
+    private CachedTodoJson json;
+    private byte[] objectEntry;
+    private byte[] jsonEntry;
+
+    @Setup
+    public void setUp() {
+        objectSerializer = new CacheConfig().jackson2JsonRedisSerializer();
+        jsonSerializer = new TodoJsonRedisSerializer();
+        JacksonConfig jacksonConfig = new JacksonConfig();
+        mvcWriter = jacksonConfig.jacksonBuilder().build().writer();
+
+        todo = BenchmarkFixtures.response(42);
+        json = new TodoJsonCache(null, jacksonConfig.jacksonBuilder()).render(todo);
+        objectEntry = objectSerializer.serialize(todo);
+        jsonEntry = jsonSerializer.serialize(json);
+    }
+
+    @Benchmark
+    public byte[] objectHitRedis() throws JsonProcessingException {
+        return mvcWriter.writeValueAsBytes(objectSerializer.deserialize(objectEntry));
+    }
+
+    @Benchmark
+    public byte[] objectHitLocal() throws JsonProcessingException {
+        return mvcWriter.writeValueAsBytes(todo);
+    }
+
+    @Benchmark
+    public byte[] bytesHitRedis() {
+        return ((CachedTodoJson) jsonSerializer.deserialize(jsonEntry)).body();
+    }
+
+    @Benchmark
+    public byte[] bytesHitLocal() {
+        return json.body();
+    }
+}
@@ -0,0 +1,35 @@
+package com.miniproject.todolist.service.impl;
+
+import com.miniproject.todolist.benchmark.BenchmarkFixtures;
+import com.miniproject.todolist.dto.TodoResponse;
+import com.miniproject.todolist.entity.Todo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapToResponseBenchmark {
+
+    private TodoServiceImpl todoService;
+    private Todo todo;
+
+    @Setup
+    public void setUp() {
+        // mapToResponse touches none of the collaborators
+        todoService = new TodoServiceImpl(null, null, null, null);
+        todo = BenchmarkFixtures.todo(42);
+    }
+
+    @Benchmark
+    public TodoResponse mapToResponse() {
+        return todoService.mapToResponse(todo);
+    }
+}
@@ -0,0 +1,76 @@
+package com.miniproject.todolist.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Entry point of {@code ./gradlew loadTest}.
+ * <p>
+ * Without {@code loadtest.base-url} it starts PostgreSQL, Redis and the application locally,
+ * seeds {@code loadtest.seed-rows} todos through the import endpoint, then drives the mixed
+ * workload and writes the JSON report. With a base URL it drives that instance as is.
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        LocalStack stack = options.provisionLocalStack() ? LocalStack.start(options.profiles()) : null;
+        try {
+            String baseUrl = stack != null ? stack.baseUrl() : options.baseUrl();
+            String redisUrl = stack != null ? stack.redisUrl() : options.redisUrl();
+            HttpClient http = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+
+            if (stack != null && options.seedRows() > 0) {
+                Path seedFile = Files.createTempFile("todolist-loadtest-", ".ndjson");
+                try {
+                    Workload.writeSeed(seedFile, options.seedRows(), options.seed());
+                    JsonNode imported = Workload.importSeed(http, baseUrl, seedFile);
+                    log("Seeded " + imported.path("imported").asLong() + " todos in "
+                            + imported.path("durationMillis").asLong() + " ms");
+                } finally {
+                    Files.deleteIfExists(seedFile);
+                }
+            }
+
+            long[] ids = Workload.loadIds(http, baseUrl);
+            Workload workload = new Workload(baseUrl, ids, options.mix(), options.seed());
+            log("Driving " + baseUrl + " at " + options.rate() + " req/s: " + options.warmup().toSeconds()
+                    + "s warm-up, " + options.duration().toSeconds() + "s measured, " + ids.length + " todos");
+
+            try (ServerMetrics metrics = new ServerMetrics(http, baseUrl, redisUrl)) {
+                AtomicReference<ServerMetrics.Snapshot> before = new AtomicReference<>();
+                OpenModelDriver.Result result = new OpenModelDriver(http, options)
+                        .run(workload, () -> before.set(metrics.snapshot()));
+                ServerMetrics.Snapshot after = metrics.snapshot();
+                if (before.get() == null) {
+                    before.set(after);
+                }
+
+                Map<String, Object> report = LoadTestReport.build(options, result, before.get(), after);
+                LoadTestReport.write(report, options.report());
+                log("Summary: " + report.get("summary"));
+                log("Report written to " + options.report().toAbsolutePath());
+            }
+        } finally {
+            if (stack != null) {
+                stack.close();
+            }
+        }
+    }
+
+    private static void log(String message) {
+        System.out.println("[loadtest] " + message);
+    }
+}
@@ -0,0 +1,85 @@
+package com.miniproject.todolist.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties.
+ *
+ * @param baseUrl     application to drive; when blank a local PostgreSQL, Redis and application are started
+ * @param redisUrl    Redis used for the cache hit ratio when {@code baseUrl} is set, e.g. redis://localhost:6379
+ * @param profiles    Spring profiles for the locally started application
+ * @param seedRows    todos imported before the run (local stack only)
+ * @param rate        request arrivals per second
+ * @param poisson     exponential inter-arrival times instead of a fixed interval
+ * @param warmup      arrivals before this point are sent but not recorded
+ * @param duration    measured window after the warm-up
+ * @param maxInFlight outstanding requests above which new arrivals are dropped and counted
+ * @param mix         relative weight per operation
+ * @param seed        random seed for the data set and the request sequence
+ * @param label       free-form run label copied into the report, e.g. a commit id
+ * @param report      JSON report path
+ */
+record LoadTestOptions(String baseUrl,
+                       String redisUrl,
+                       String profiles,
+                       int seedRows,
+                       double rate,
+                       boolean poisson,
+                       Duration warmup,
+                       Duration duration,
+                       int maxInFlight,
+                       Map<Operation, Integer> mix,
+                       long seed,
+                       String label,
+                       Path report) {
+
+    static final String DEFAULT_MIX = "list=25,get=30,search=10,query=10,tag=5,create=10,update=7,delete=3";
+
+    static LoadTestOptions fromSystemProperties() {
+        return new LoadTestOptions(
+                property("base-url", ""),
+                property("redis-url", ""),
+                property("profiles", ""),
+                Integer.parseInt(property("seed-rows", "100000")),
+                Double.parseDouble(property("rate", "200")),
+                "poisson".equalsIgnoreCase(property("arrival", "poisson")),
+                DurationStyle.detectAndParse(property("warmup", "30s")),
+                DurationStyle.detectAndParse(property("duration", "2m")),
+                Integer.parseInt(property("max-in-flight", "2000")),
+                parseMix(property("mix", DEFAULT_MIX)),
+                Long.parseLong(property("seed", "42")),
+                property("label", ""),
+                Path.of(property("report", "build/reports/loadtest/report.json")));
+    }
+
+    boolean provisionLocalStack() {
+        return baseUrl.isBlank();
+    }
+
+    static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + entry + "', expected operation=weight");
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.fromName(parts[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("The workload mix has no operation with a positive weight");
+        }
+        return mix;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+}
@@ -0,0 +1,147 @@
+package com.miniproject.todolist.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Writes the run as JSON with a fixed key order, so reports of two commits can be compared
+ * with a plain diff or {@code bench/loadtest-diff.py}.
+ * <p>
+ * Each operation also carries its full latency histogram in HdrHistogram's compressed,
+ * Base64-encoded form, for merging or plotting runs later.
+ */
+final class LoadTestReport {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private LoadTestReport() {
+    }
+
+    static Map<String, Object> build(LoadTestOptions options,
+                                     OpenModelDriver.Result result,
+                                     ServerMetrics.Snapshot before,
+                                     ServerMetrics.Snapshot after) {
+        double seconds = result.measuredNanos() / 1e9;
+        Histogram overall = new Histogram(3);
+        long errors = 0;
+        long dropped = 0;
+
+        Map<String, Object> operations = new LinkedHashMap<>();
+        for (Map.Entry<Operation, OpenModelDriver.OperationStats> entry : result.operations().entrySet()) {
+            OpenModelDriver.OperationStats stats = entry.getValue();
+            overall.add(stats.latencyMicros);
+            errors += stats.errors.sum();
+            dropped += stats.dropped.sum();
+
+            Map<String, Long> statuses = new TreeMap<>();
+            for (Map.Entry<String, LongAdder> status : stats.statuses.entrySet()) {
+                statuses.put(status.getKey(), status.getValue().sum());
+            }
+            Map<String, Object> operation = new LinkedHashMap<>();
+            operation.put("requests", stats.latencyMicros.getTotalCount());
+            operation.put("errors", stats.errors.sum());
+            operation.put("dropped", stats.dropped.sum());
+            operation.put("throughputPerSecond", round(stats.latencyMicros.getTotalCount() / seconds));
+            operation.put("latencyMs", latency(stats.latencyMicros));
+            operation.put("statuses", statuses);
+            operation.put("histogram", encode(stats.latencyMicros));
+            operations.put(entry.getKey().key(), operation);
+        }
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("target", options.provisionLocalStack() ? "local" : options.baseUrl());
+        config.put("profiles", options.profiles());
+        config.put("seedRows", options.provisionLocalStack() ? options.seedRows() : null);
+        config.put("ratePerSecond", options.rate());
+        config.put("arrival", options.poisson() ? "poisson" : "constant");
+        config.put("warmupSeconds", options.warmup().toSeconds());
+        config.put("durationSeconds", options.duration().toSeconds());
+        config.put("maxInFlight", options.maxInFlight());
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        options.mix().forEach((operation, weight) -> mix.put(operation.key(), weight));
+        config.put("mix", mix);
+        config.put("seed", options.seed());
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", overall.getTotalCount());
+        summary.put("errors", errors);
+        summary.put("dropped", dropped);
+        summary.put("throughputPerSecond", round(overall.getTotalCount() / seconds));
+        summary.put("latencyMs", latency(overall));
+
+        Map<String, Object> cache = new LinkedHashMap<>();
+        if (before.keyspaceHits() >= 0 && after.keyspaceHits() >= 0) {
+            long hits = after.keyspaceHits() - before.keyspaceHits();
+            long misses = after.keyspaceMisses() - before.keyspaceMisses();
+            cache.put("redisHits", hits);
+            cache.put("redisMisses", misses);
+            cache.put("redisHitRatio", hits + misses > 0 ? round((double) hits / (hits + misses)) : null);
+        }
+
+        Map<String, Object> pool = new LinkedHashMap<>();
+        if (!Double.isNaN(before.acquireCount()) && !Double.isNaN(after.acquireCount())) {
+            double acquires = after.acquireCount() - before.acquireCount();
+            double waitSeconds = after.acquireSeconds() - before.acquireSeconds();
+            pool.put("acquires", (long) acquires);
+            pool.put("acquireWaitTotalMs", round(waitSeconds * 1000));
+            pool.put("acquireWaitMeanMs", acquires > 0 ? round(waitSeconds * 1000 / acquires) : null);
+            // Micrometer's max decays over a few minutes, so this covers the end of the run
+            pool.put("acquireWaitRecentMaxMs", round(after.acquireMaxSeconds() * 1000));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("label", options.label());
+        report.put("config", config);
+        report.put("summary", summary);
+        report.put("operations", operations);
+        report.put("cache", cache);
+        report.put("dbPool", pool);
+        return report;
+    }
+
+    static void write(Map<String, Object> report, Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        MAPPER.writeValue(path.toFile(), report);
+    }
+
+    private static Map<String, Object> latency(Histogram histogram) {
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("p50", millis(histogram.getValueAtPercentile(50)));
+        latency.put("p90", millis(histogram.getValueAtPercentile(90)));
+        latency.put("p99", millis(histogram.getValueAtPercentile(99)));
+        latency.put("p999", millis(histogram.getValueAtPercentile(99.9)));
+        latency.put("max", millis(histogram.getMaxValue()));
+        latency.put("mean", round(histogram.getMean() / 1000));
+        return latency;
+    }
+
+    private static String encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+
+    private static double millis(long micros) {
+        return round(micros / (double) TimeUnit.MILLISECONDS.toMicros(1));
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,102 @@
+package com.miniproject.todolist.loadtest;
+
+import com.miniproject.todolist.TodolistApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * PostgreSQL and Redis as local child processes plus the application on a random port.
+ * <p>
+ * Nothing outside the machine is contacted, and every run starts from an empty database.
+ * The application runs in this JVM, so its CPU and heap compete with the load generator;
+ * compare reports from the same machine only.
+ */
+final class LocalStack implements AutoCloseable {
+
+    private final EmbeddedPostgres postgres;
+    private final RedisServer redis;
+    private final int redisPort;
+    private final ConfigurableApplicationContext application;
+
+    private LocalStack(EmbeddedPostgres postgres, RedisServer redis, int redisPort,
+                       ConfigurableApplicationContext application) {
+        this.postgres = postgres;
+        this.redis = redis;
+        this.redisPort = redisPort;
+        this.application = application;
+    }
+
+    static LocalStack start(String profiles) throws IOException {
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+        int redisPort = freePort();
+        RedisServer redis = new RedisServer(redisPort);
+        try {
+            redis.start();
+
+            Map<String, Object> properties = new HashMap<>();
+            properties.put("server.port", 0);
+            properties.put("spring.datasource.url", postgres.getJdbcUrl("postgres", "postgres"));
+            properties.put("spring.datasource.username", "postgres");
+            properties.put("spring.datasource.password", "postgres");
+            properties.put("spring.data.redis.host", "localhost");
+            properties.put("spring.data.redis.port", redisPort);
+            // SQL and cache logging at DEBUG/TRACE would dominate the measurement
+            properties.put("spring.jpa.show-sql", false);
+            properties.put("logging.level.root", "WARN");
+            properties.put("logging.level.com.miniproject.todolist", "INFO");
+            properties.put("logging.level.org.hibernate.SQL", "WARN");
+            properties.put("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN");
+            properties.put("logging.level.org.springframework.cache", "WARN");
+
+            SpringApplicationBuilder builder = new SpringApplicationBuilder(TodolistApplication.class)
+                    .properties(properties);
+            if (!profiles.isBlank()) {
+                builder.profiles(profiles.split(","));
+            }
+            return new LocalStack(postgres, redis, redisPort, builder.run());
+        } catch (RuntimeException | IOException ex) {
+            stopQuietly(redis);
+            postgres.close();
+            throw ex;
+        }
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + application.getEnvironment().getProperty("local.server.port");
+    }
+
+    String redisUrl() {
+        return "redis://localhost:" + redisPort;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            application.close();
+        } finally {
+            stopQuietly(redis);
+            postgres.close();
+        }
+    }
+
+    private static void stopQuietly(RedisServer redis) {
+        try {
+            redis.stop();
+        } catch (IOException ignored) {
+            // The process is gone either way once this JVM exits
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.miniproject.todolist.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends requests at a fixed arrival rate regardless of how fast the application answers.
+ * <p>
+ * Each arrival runs on its own virtual thread, and latency is measured from the scheduled
+ * arrival time rather than the actual send time, so a stalled server shows up as queueing
+ * delay instead of silently lowering the offered load (no coordinated omission).
+ * Arrivals that find {@code maxInFlight} requests outstanding are dropped and counted.
+ */
+final class OpenModelDriver {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final HttpClient http;
+    private final LoadTestOptions options;
+
+    OpenModelDriver(HttpClient http, LoadTestOptions options) {
+        this.http = http;
+        this.options = options;
+    }
+
+    static final class OperationStats {
+        final Histogram latencyMicros = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+        final Map<String, LongAdder> statuses = new ConcurrentHashMap<>();
+    }
+
+    record Result(Map<Operation, OperationStats> operations, long measuredNanos) {
+    }
+
+    /**
+     * Runs the warm-up and the measured window and waits for every outstanding request.
+     *
+     * @param onMeasureStart invoked by the scheduler when the first measured arrival is due
+     */
+    Result run(Workload workload, Runnable onMeasureStart) {
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : options.mix().keySet()) {
+            stats.put(operation, new OperationStats());
+        }
+        stats.putIfAbsent(Operation.CREATE, new OperationStats());
+
+        Random arrivals = new Random(options.seed() ^ 0x5DEECE66DL);
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        AtomicInteger inFlight = new AtomicInteger();
+
+        long start = System.nanoTime();
+        long measureStart = start + options.warmup().toNanos();
+        long end = measureStart + options.duration().toNanos();
+        boolean measuring = false;
+        double next = start;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (next < end) {
+                long intended = (long) next;
+                long wait;
+                while ((wait = intended - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                boolean measured = intended >= measureStart;
+                if (measured && !measuring) {
+                    measuring = true;
+                    onMeasureStart.run();
+                }
+
+                Workload.Call call = workload.next();
+                OperationStats operationStats = stats.get(call.operation());
+                if (inFlight.incrementAndGet() > options.maxInFlight()) {
+                    inFlight.decrementAndGet();
+                    if (measured) {
+                        operationStats.dropped.increment();
+                    }
+                } else {
+                    executor.execute(() -> {
+                        try {
+                            send(workload, call, intended, measured ? operationStats : null);
+                        } finally {
+                            inFlight.decrementAndGet();
+                        }
+                    });
+                }
+
+                next += options.poisson()
+                        ? -Math.log(1 - arrivals.nextDouble()) * meanIntervalNanos
+                        : meanIntervalNanos;
+            }
+        }
+        return new Result(stats, System.nanoTime() - measureStart);
+    }
+
+    private void send(Workload workload, Workload.Call call, long intended, OperationStats stats) {
+        String status;
+        boolean error;
+        try {
+            HttpResponse<String> response = http.send(call.request(), HttpResponse.BodyHandlers.ofString());
+            workload.onResponse(call.operation(), response.statusCode(), response.body());
+            status = Integer.toString(response.statusCode());
+            error = response.statusCode() >= 400;
+        } catch (IOException ex) {
+            status = ex.getClass().getSimpleName();
+            error = true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (stats == null) {
+            return;
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended);
+        stats.latencyMicros.recordValue(Math.min(Math.max(micros, 1), HIGHEST_TRACKABLE_MICROS));
+        stats.statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+        if (error) {
+            stats.errors.increment();
+        }
+    }
+}
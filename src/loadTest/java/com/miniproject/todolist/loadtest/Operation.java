@@ -0,0 +1,29 @@
+package com.miniproject.todolist.loadtest;
+
+import java.util.Locale;
+
+/**
+ * Request types of the mixed workload. Each maps to one {@code /api/v1/todos} endpoint.
+ */
+enum Operation {
+    LIST,
+    GET,
+    SEARCH,
+    QUERY,
+    TAG,
+    CREATE,
+    UPDATE,
+    DELETE;
+
+    String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    static Operation fromName(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unknown operation '" + name + "'", ex);
+        }
+    }
+}
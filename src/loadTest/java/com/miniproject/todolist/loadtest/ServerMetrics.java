@@ -0,0 +1,97 @@
+package com.miniproject.todolist.loadtest;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * Server-side counters sampled before and after the measured window.
+ * <p>
+ * Pool wait comes from the {@code hikaricp_connections_acquire_seconds} timer on the
+ * Prometheus endpoint, summed over every pool. The cache hit ratio comes from Redis
+ * {@code keyspace_hits}/{@code keyspace_misses}; hits served by the in-process L1 never
+ * reach Redis and are not part of it.
+ */
+final class ServerMetrics implements AutoCloseable {
+
+    record Snapshot(double acquireCount, double acquireSeconds, double acquireMaxSeconds,
+                    long keyspaceHits, long keyspaceMisses) {
+    }
+
+    private final HttpClient http;
+    private final URI prometheusUri;
+    private final RedisClient redisClient;
+    private final StatefulRedisConnection<String, String> redis;
+
+    ServerMetrics(HttpClient http, String baseUrl, String redisUrl) {
+        this.http = http;
+        this.prometheusUri = URI.create(baseUrl + "/actuator/prometheus");
+        this.redisClient = redisUrl.isBlank() ? null : RedisClient.create(redisUrl);
+        this.redis = redisClient != null ? redisClient.connect() : null;
+    }
+
+    Snapshot snapshot() {
+        double acquireCount = Double.NaN;
+        double acquireSeconds = Double.NaN;
+        double acquireMaxSeconds = Double.NaN;
+        try {
+            HttpResponse<String> response = http.send(HttpRequest.newBuilder(prometheusUri).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 200) {
+                acquireCount = 0;
+                acquireSeconds = 0;
+                acquireMaxSeconds = 0;
+                for (String line : response.body().split("\n")) {
+                    if (line.isEmpty() || line.startsWith("#")) {
+                        continue;
+                    }
+                    String name = metricName(line);
+                    double value = Double.parseDouble(line.substring(line.lastIndexOf(' ') + 1));
+                    switch (name) {
+                        case "hikaricp_connections_acquire_seconds_count" -> acquireCount += value;
+                        case "hikaricp_connections_acquire_seconds_sum" -> acquireSeconds += value;
+                        case "hikaricp_connections_acquire_seconds_max" ->
+                                acquireMaxSeconds = Math.max(acquireMaxSeconds, value);
+                        default -> {
+                        }
+                    }
+                }
+            }
+        } catch (IOException ignored) {
+            // Reported as unavailable
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        long hits = -1;
+        long misses = -1;
+        if (redis != null) {
+            for (String line : redis.sync().info("stats").split("\r?\n")) {
+                if (line.startsWith("keyspace_hits:")) {
+                    hits = Long.parseLong(line.substring("keyspace_hits:".length()).trim());
+                } else if (line.startsWith("keyspace_misses:")) {
+                    misses = Long.parseLong(line.substring("keyspace_misses:".length()).trim());
+                }
+            }
+        }
+        return new Snapshot(acquireCount, acquireSeconds, acquireMaxSeconds, hits, misses);
+    }
+
+    private static String metricName(String line) {
+        int end = line.indexOf('{');
+        return end >= 0 ? line.substring(0, end) : line.substring(0, line.indexOf(' '));
+    }
+
+    @Override
+    public void close() {
+        if (redis != null) {
+            redis.close();
+            redisClient.shutdown();
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.miniproject.todolist.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Builds the request sequence of the mixed workload and the seed data it runs against.
+ * <p>
+ * Titles and tags are drawn from small vocabularies so searches and tag filters match a
+ * realistic share of rows. Reads by id are skewed: 80% go to the first 20% of the ids,
+ * which gives the caches a hot set. Deletes only remove todos created during the run,
+ * so reads never turn into 404s.
+ */
+final class Workload {
+
+    static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final String[] WORDS = {
+            "prepare", "review", "budget", "release", "invoice", "meeting", "report", "deploy",
+            "refactor", "onboarding", "quarterly", "customer", "backlog", "migration", "roadmap", "audit"
+    };
+    private static final String[] TAGS = {
+            "work", "home", "urgent", "finance", "health", "errands", "project", "later", "q1", "q4"
+    };
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH"};
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String todosUrl;
+    private final long[] ids;
+    private final Random random;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final Queue<Long> created = new ConcurrentLinkedQueue<>();
+
+    Workload(String baseUrl, long[] ids, Map<Operation, Integer> mix, long seed) {
+        this.todosUrl = baseUrl + "/api/v1/todos";
+        this.ids = ids;
+        this.random = new Random(seed);
+        this.operations = mix.keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += mix.get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+        if (ids.length == 0 && (mix.containsKey(Operation.GET) || mix.containsKey(Operation.UPDATE))) {
+            throw new IllegalStateException("The target has no todos to read or update; seed it first");
+        }
+    }
+
+    record Call(Operation operation, HttpRequest request) {
+    }
+
+    /**
+     * Next request of the sequence. Not thread-safe: called only by the arrival scheduler.
+     */
+    Call next() {
+        Operation operation = pick();
+        return switch (operation) {
+            case LIST -> get(operation, "?page=" + random.nextInt(50) + "&size=20");
+            case GET -> get(operation, "/" + hotId());
+            case SEARCH -> get(operation, "/search?query=" + word() + "&page=0&size=20");
+            case QUERY -> get(operation, "/query?completed=false&priority=" + PRIORITIES[random.nextInt(3)]
+                    + "&sort=DUE_DATE&direction=ASC&page=" + random.nextInt(5) + "&size=20");
+            case TAG -> get(operation, "?tag=" + tag() + "&tag=" + tag()
+                    + "&match=" + (random.nextBoolean() ? "any" : "all") + "&limit=20");
+            case CREATE -> create();
+            case UPDATE -> new Call(operation, HttpRequest.newBuilder(URI.create(todosUrl + "/" + hotId()))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(
+                            "{\"completed\":" + random.nextBoolean() + ",\"priority\":\"" + PRIORITIES[random.nextInt(3)] + "\"}"))
+                    .build());
+            case DELETE -> delete();
+        };
+    }
+
+    /**
+     * Remembers ids of todos created by the workload so later deletes have something to remove.
+     */
+    void onResponse(Operation operation, int status, String body) {
+        if (operation == Operation.CREATE && status == 201) {
+            try {
+                created.add(MAPPER.readTree(body).path("id").asLong());
+            } catch (IOException ignored) {
+                // The request itself is already counted; only the id is lost
+            }
+        }
+    }
+
+    private Call get(Operation operation, String pathAndQuery) {
+        return new Call(operation, HttpRequest.newBuilder(URI.create(todosUrl + pathAndQuery))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build());
+    }
+
+    private Call create() {
+        return new Call(Operation.CREATE, HttpRequest.newBuilder(URI.create(todosUrl))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(todoJson(random, random.nextInt(1_000_000))))
+                .build());
+    }
+
+    private Call delete() {
+        Long id = created.poll();
+        if (id == null) {
+            return create();
+        }
+        return new Call(Operation.DELETE, HttpRequest.newBuilder(URI.create(todosUrl + "/" + id))
+                .timeout(REQUEST_TIMEOUT)
+                .DELETE()
+                .build());
+    }
+
+    private Operation pick() {
+        int roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private long hotId() {
+        int hotSetSize = Math.max(1, ids.length / 5);
+        return random.nextInt(10) < 8 ? ids[random.nextInt(hotSetSize)] : ids[random.nextInt(ids.length)];
+    }
+
+    private String word() {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private String tag() {
+        return URLEncoder.encode(TAGS[random.nextInt(TAGS.length)], StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes {@code rows} todos as NDJSON in the import format.
+     */
+    static void writeSeed(Path file, int rows, long seed) throws IOException {
+        Random random = new Random(seed);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < rows; i++) {
+                writer.write(todoJson(random, i));
+                writer.newLine();
+            }
+        }
+    }
+
+    private static String todoJson(Random random, int sequence) {
+        Map<String, Object> todo = new LinkedHashMap<>();
+        todo.put("title", WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                + " " + WORDS[random.nextInt(WORDS.length)] + " #" + sequence);
+        todo.put("description", "Generated by the load test for row " + sequence);
+        todo.put("completed", random.nextInt(4) == 0);
+        todo.put("priority", PRIORITIES[random.nextInt(3)]);
+        if (random.nextInt(5) > 0) {
+            todo.put("dueDate", EPOCH.plusHours(random.nextInt(24 * 365)).toString());
+        }
+        todo.put("tags", TAGS[random.nextInt(TAGS.length)] + "," + TAGS[random.nextInt(TAGS.length)]);
+        try {
+            return MAPPER.writeValueAsString(todo);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Imports the seed file through the COPY-based import endpoint.
+     */
+    static JsonNode importSeed(HttpClient http, String baseUrl, Path file) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/todos/import?format=ndjson"))
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofFile(file))
+                .build();
+        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Seed import failed with " + response.statusCode() + ": " + response.body());
+        }
+        return MAPPER.readTree(response.body());
+    }
+
+    /**
+     * Reads every todo id through the streaming export endpoint.
+     */
+    static long[] loadIds(HttpClient http, String baseUrl) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/todos/export?format=ndjson"))
+                .GET()
+                .build();
+        HttpResponse<InputStream> response = http.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Export failed with " + response.statusCode());
+        }
+        long[] ids = new long[1024];
+        int count = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (count == ids.length) {
+                    ids = Arrays.copyOf(ids, count * 2);
+                }
+                ids[count++] = MAPPER.readTree(line).path("id").asLong();
+            }
+        }
+        return Arrays.copyOf(ids, count);
+    }
+}
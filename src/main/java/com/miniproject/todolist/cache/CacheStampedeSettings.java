@@ -0,0 +1,28 @@
+package com.miniproject.todolist.cache;
+
+import java.time.Duration;
+
+/**
+ * Stampede protection for loads through {@link TwoTierCache#get(Object, java.util.concurrent.Callable)}.
+ * Concurrent misses of a key on one instance always share a single load; these settings add
+ * a cross-instance reload lease and probabilistic early refresh of hot keys.
+ *
+ * @param leaseTime        how long one instance may hold the reload of a key; zero disables leases
+ * @param leaseWait        how long other instances poll Redis for the leaseholder's value before
+ *                         loading it themselves
+ * @param earlyRefreshBeta XFetch beta; higher values refresh earlier, zero disables early refresh
+ */
+public record CacheStampedeSettings(Duration leaseTime, Duration leaseWait, double earlyRefreshBeta) {
+
+    public static CacheStampedeSettings coalescingOnly() {
+        return new CacheStampedeSettings(Duration.ZERO, Duration.ZERO, 0);
+    }
+
+    boolean leasesEnabled() {
+        return leaseTime.isPositive();
+    }
+
+    boolean earlyRefreshEnabled() {
+        return earlyRefreshBeta > 0;
+    }
+}
@@ -0,0 +1,11 @@
+package com.miniproject.todolist.cache;
+
+/**
+ * A single-todo response as it goes on the wire: the JSON body plus its validators.
+ *
+ * @param etag         strong ETag, or null for todos without a version
+ * @param lastModified epoch millis of updatedAt, or 0 when unknown
+ * @param body         response body, never modified after construction
+ */
+public record CachedTodoJson(String etag, long lastModified, byte[] body) {
+}
@@ -0,0 +1,409 @@
+package com.miniproject.todolist.cache;
+
+import com.miniproject.todolist.dto.CachedPage;
+import com.miniproject.todolist.dto.CursorPage;
+import com.miniproject.todolist.dto.TagFacet;
+import com.miniproject.todolist.dto.TagFilterPage;
+import com.miniproject.todolist.dto.TodoResponse;
+import com.miniproject.todolist.enums.Priority;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact binary encoding of the cached todo DTOs.
+ * <p>
+ * Layout: {@code MAGIC, VERSION, flags, type} followed by the body. Numbers are varints,
+ * strings are length-prefixed UTF-8, enums are their ordinal and timestamps are epoch
+ * seconds plus nanos. Bodies of at least {@code compressionThreshold} bytes are LZ4
+ * compressed when that makes them smaller ({@link #FLAG_LZ4}, uncompressed length first).
+ * <p>
+ * Values of other types are written by the JSON fallback serializer. Anything that does not
+ * start with {@link #MAGIC} is read by the fallback too, so entries cached as JSON before a
+ * cache was switched to this format stay readable until they expire.
+ * <p>
+ * Adding a field, or reordering {@link Priority}, needs a new {@link #VERSION} whose reader
+ * still accepts the old versions.
+ */
+public class TodoBinaryRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xB7;
+    static final byte VERSION = 2;
+    // Version 1 entries lack the todo version; they are read with a null version
+    private static final byte MIN_READABLE_VERSION = 1;
+    static final int FLAG_LZ4 = 1;
+
+    private static final byte TYPE_TODO = 1;
+    private static final byte TYPE_CACHED_PAGE = 2;
+    private static final byte TYPE_CURSOR_PAGE = 3;
+    private static final byte TYPE_TAG_FILTER_PAGE = 4;
+
+    private static final int HEADER_SIZE = 4;
+
+    // Presence bits for the nullable TodoResponse fields
+    private static final int HAS_ID = 1;
+    private static final int HAS_TITLE = 1 << 1;
+    private static final int HAS_DESCRIPTION = 1 << 2;
+    private static final int HAS_COMPLETED = 1 << 3;
+    private static final int COMPLETED = 1 << 4;
+    private static final int HAS_PRIORITY = 1 << 5;
+    private static final int HAS_DUE_DATE = 1 << 6;
+    private static final int HAS_TAGS = 1 << 7;
+    private static final int HAS_CREATED_AT = 1 << 8;
+    private static final int HAS_UPDATED_AT = 1 << 9;
+    private static final int HAS_VERSION = 1 << 10;
+
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private final RedisSerializer<Object> fallback;
+    private final int compressionThreshold;
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+
+    /**
+     * @param fallback             serializer for values of other types and for non-binary entries
+     * @param compressionThreshold body size in bytes from which LZ4 is tried; 0 or less disables compression
+     */
+    public TodoBinaryRedisSerializer(RedisSerializer<Object> fallback, int compressionThreshold) {
+        this.fallback = fallback;
+        this.compressionThreshold = compressionThreshold;
+        LZ4Factory lz4 = LZ4Factory.fastestInstance();
+        this.compressor = lz4.fastCompressor();
+        this.decompressor = lz4.fastDecompressor();
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+        Writer body = new Writer();
+        byte type;
+        if (value instanceof TodoResponse todo) {
+            type = TYPE_TODO;
+            writeTodo(body, todo);
+        } else if (value instanceof CachedPage page && isTodoList(page.getContent())) {
+            type = TYPE_CACHED_PAGE;
+            writeTodos(body, page.getContent());
+            body.writeVarLong(page.getPage());
+            body.writeVarLong(page.getSize());
+            body.writeVarLong(page.getTotalElements());
+        } else if (value instanceof CursorPage<?> page && isTodoList(page.getContent())) {
+            type = TYPE_CURSOR_PAGE;
+            writeTodos(body, page.getContent());
+            body.writeString(page.getNextCursor());
+            body.writeByte(page.isHasNext() ? 1 : 0);
+            body.writeVarLong(page.getSize());
+        } else if (value instanceof TagFilterPage page && isTodoList(page.getContent())) {
+            type = TYPE_TAG_FILTER_PAGE;
+            writeTodos(body, page.getContent());
+            body.writeString(page.getNextCursor());
+            body.writeByte(page.isHasNext() ? 1 : 0);
+            body.writeVarLong(page.getSize());
+            writeFacets(body, page.getFacets());
+        } else {
+            return fallback.serialize(value);
+        }
+        return frame(type, body);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_SIZE) {
+            throw new SerializationException("Truncated binary cache entry");
+        }
+        if (bytes[1] < MIN_READABLE_VERSION || bytes[1] > VERSION) {
+            throw new SerializationException("Unsupported binary cache entry version " + bytes[1]);
+        }
+        int flags = bytes[2];
+        byte type = bytes[3];
+        try {
+            Reader body = (flags & FLAG_LZ4) != 0 ? decompress(bytes) : new Reader(bytes, HEADER_SIZE);
+            return switch (type) {
+                case TYPE_TODO -> readTodo(body);
+                case TYPE_CACHED_PAGE -> new CachedPage(readTodos(body),
+                        (int) body.readVarLong(), (int) body.readVarLong(), body.readVarLong());
+                case TYPE_CURSOR_PAGE -> new CursorPage<>(readTodos(body),
+                        body.readString(), body.readByte() != 0, (int) body.readVarLong());
+                case TYPE_TAG_FILTER_PAGE -> new TagFilterPage(readTodos(body),
+                        body.readString(), body.readByte() != 0, (int) body.readVarLong(), readFacets(body));
+                default -> throw new SerializationException("Unknown binary cache entry type " + type);
+            };
+        } catch (SerializationException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            throw new SerializationException("Corrupt binary cache entry", ex);
+        }
+    }
+
+    private byte[] frame(byte type, Writer body) {
+        int flags = 0;
+        byte[] payload = body.buffer;
+        int payloadLength = body.length;
+        if (compressionThreshold > 0 && body.length >= compressionThreshold) {
+            Writer compressed = new Writer();
+            compressed.writeVarLong(body.length);
+            compressed.ensureCapacity(compressor.maxCompressedLength(body.length));
+            compressed.length += compressor.compress(body.buffer, 0, body.length,
+                    compressed.buffer, compressed.length, compressed.buffer.length - compressed.length);
+            if (compressed.length < body.length) {
+                flags |= FLAG_LZ4;
+                payload = compressed.buffer;
+                payloadLength = compressed.length;
+            }
+        }
+        byte[] bytes = new byte[HEADER_SIZE + payloadLength];
+        bytes[0] = MAGIC;
+        bytes[1] = VERSION;
+        bytes[2] = (byte) flags;
+        bytes[3] = type;
+        System.arraycopy(payload, 0, bytes, HEADER_SIZE, payloadLength);
+        return bytes;
+    }
+
+    private Reader decompress(byte[] bytes) {
+        Reader header = new Reader(bytes, HEADER_SIZE);
+        int length = (int) header.readVarLong();
+        byte[] body = new byte[length];
+        decompressor.decompress(bytes, header.position, body, 0, length);
+        return new Reader(body, 0);
+    }
+
+    private static boolean isTodoList(List<?> content) {
+        if (content == null) {
+            return false;
+        }
+        for (Object element : content) {
+            if (!(element instanceof TodoResponse)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeTodos(Writer out, List<?> todos) {
+        out.writeVarLong(todos.size());
+        for (Object todo : todos) {
+            writeTodo(out, (TodoResponse) todo);
+        }
+    }
+
+    private static List<TodoResponse> readTodos(Reader in) {
+        int size = (int) in.readVarLong();
+        List<TodoResponse> todos = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            todos.add(readTodo(in));
+        }
+        return todos;
+    }
+
+    private static void writeTodo(Writer out, TodoResponse todo) {
+        int bits = 0;
+        bits |= todo.getId() != null ? HAS_ID : 0;
+        bits |= todo.getTitle() != null ? HAS_TITLE : 0;
+        bits |= todo.getDescription() != null ? HAS_DESCRIPTION : 0;
+        bits |= todo.getCompleted() != null ? HAS_COMPLETED : 0;
+        bits |= Boolean.TRUE.equals(todo.getCompleted()) ? COMPLETED : 0;
+        bits |= todo.getPriority() != null ? HAS_PRIORITY : 0;
+        bits |= todo.getDueDate() != null ? HAS_DUE_DATE : 0;
+        bits |= todo.getTags() != null ? HAS_TAGS : 0;
+        bits |= todo.getCreatedAt() != null ? HAS_CREATED_AT : 0;
+        bits |= todo.getUpdatedAt() != null ? HAS_UPDATED_AT : 0;
+        bits |= todo.getVersion() != null ? HAS_VERSION : 0;
+        out.writeVarLong(bits);
+
+        if (todo.getId() != null) {
+            out.writeVarLong(todo.getId());
+        }
+        if (todo.getTitle() != null) {
+            out.writeString(todo.getTitle());
+        }
+        if (todo.getDescription() != null) {
+            out.writeString(todo.getDescription());
+        }
+        if (todo.getPriority() != null) {
+            out.writeByte(todo.getPriority().ordinal());
+        }
+        if (todo.getDueDate() != null) {
+            out.writeDateTime(todo.getDueDate());
+        }
+        if (todo.getTags() != null) {
+            out.writeString(todo.getTags());
+        }
+        if (todo.getCreatedAt() != null) {
+            out.writeDateTime(todo.getCreatedAt());
+        }
+        if (todo.getUpdatedAt() != null) {
+            out.writeDateTime(todo.getUpdatedAt());
+        }
+        if (todo.getVersion() != null) {
+            out.writeVarLong(todo.getVersion());
+        }
+    }
+
+    private static TodoResponse readTodo(Reader in) {
+        int bits = (int) in.readVarLong();
+        TodoResponse todo = new TodoResponse();
+        if ((bits & HAS_ID) != 0) {
+            todo.setId(in.readVarLong());
+        }
+        if ((bits & HAS_TITLE) != 0) {
+            todo.setTitle(in.readString());
+        }
+        if ((bits & HAS_DESCRIPTION) != 0) {
+            todo.setDescription(in.readString());
+        }
+        if ((bits & HAS_COMPLETED) != 0) {
+            todo.setCompleted((bits & COMPLETED) != 0);
+        }
+        if ((bits & HAS_PRIORITY) != 0) {
+            todo.setPriority(PRIORITIES[in.readByte()]);
+        }
+        if ((bits & HAS_DUE_DATE) != 0) {
+            todo.setDueDate(in.readDateTime());
+        }
+        if ((bits & HAS_TAGS) != 0) {
+            todo.setTags(in.readString());
+        }
+        if ((bits & HAS_CREATED_AT) != 0) {
+            todo.setCreatedAt(in.readDateTime());
+        }
+        if ((bits & HAS_UPDATED_AT) != 0) {
+            todo.setUpdatedAt(in.readDateTime());
+        }
+        if ((bits & HAS_VERSION) != 0) {
+            todo.setVersion(in.readVarLong());
+        }
+        return todo;
+    }
+
+    private static void writeFacets(Writer out, List<TagFacet> facets) {
+        if (facets == null) {
+            out.writeVarLong(0);
+            return;
+        }
+        // Stored as size + 1 so that an absent list (0) differs from an empty one (1)
+        out.writeVarLong(facets.size() + 1L);
+        for (TagFacet facet : facets) {
+            out.writeString(facet.getTag());
+            out.writeVarLong(facet.getCount());
+        }
+    }
+
+    private static List<TagFacet> readFacets(Reader in) {
+        int size = (int) in.readVarLong() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<TagFacet> facets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            facets.add(new TagFacet(in.readString(), in.readVarLong()));
+        }
+        return facets;
+    }
+
+    private static final class Writer {
+
+        private byte[] buffer = new byte[256];
+        private int length;
+
+        void ensureCapacity(int additional) {
+            if (length + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + additional));
+            }
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[length++] = (byte) value;
+        }
+
+        // Unsigned LEB128; negative values take ten bytes and never occur in practice
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[length++] = (byte) value;
+        }
+
+        // Length + 1, so that null (0) differs from the empty string (1)
+        void writeString(String value) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(utf8.length + 1L);
+            ensureCapacity(utf8.length);
+            System.arraycopy(utf8, 0, buffer, length, utf8.length);
+            length += utf8.length;
+        }
+
+        // Zig-zag epoch seconds keep dates before 1970 short as well
+        void writeDateTime(LocalDateTime value) {
+            long seconds = value.toEpochSecond(ZoneOffset.UTC);
+            writeVarLong((seconds << 1) ^ (seconds >> 63));
+            writeVarLong(value.getNano());
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] buffer;
+        private int position;
+
+        Reader(byte[] buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        int readByte() {
+            return buffer[position++];
+        }
+
+        long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buffer[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+
+        String readString() {
+            int length = (int) readVarLong() - 1;
+            if (length < 0) {
+                return null;
+            }
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        LocalDateTime readDateTime() {
+            long zigZag = readVarLong();
+            long seconds = (zigZag >>> 1) ^ -(zigZag & 1);
+            return LocalDateTime.ofEpochSecond(seconds, (int) readVarLong(), ZoneOffset.UTC);
+        }
+    }
+}
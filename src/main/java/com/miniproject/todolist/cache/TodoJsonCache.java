@@ -0,0 +1,60 @@
+package com.miniproject.todolist.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.miniproject.todolist.dto.TodoResponse;
+import com.miniproject.todolist.util.TodoETags;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.time.ZoneId;
+import java.util.function.Supplier;
+
+/**
+ * Caches GET /api/v1/todos/{id} responses as the bytes the MVC mapper would write, so a hit
+ * is copied to the response without building a {@link TodoResponse} or running Jackson.
+ * Entries are evicted by the same writes that maintain the todos cache.
+ */
+@Component
+public class TodoJsonCache {
+
+    public static final String TODOS_JSON = "todosJson";
+
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+
+    public TodoJsonCache(CacheManager cacheManager, Jackson2ObjectMapperBuilder jacksonBuilder) {
+        this.cacheManager = cacheManager;
+        this.objectMapper = jacksonBuilder.build();
+    }
+
+    public CachedTodoJson get(Long id, Supplier<TodoResponse> loader) {
+        Cache cache = cacheManager.getCache(TODOS_JSON);
+        if (cache == null) {
+            return render(loader.get());
+        }
+        try {
+            return cache.get(id, () -> render(loader.get()));
+        } catch (Cache.ValueRetrievalException ex) {
+            // Let TodoNotFoundException and friends reach the exception handler as they are
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    public CachedTodoJson render(TodoResponse todo) {
+        try {
+            long lastModified = todo.getUpdatedAt() != null
+                    ? todo.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                    : 0L;
+            return new CachedTodoJson(TodoETags.of(todo), lastModified, objectMapper.writeValueAsBytes(todo));
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
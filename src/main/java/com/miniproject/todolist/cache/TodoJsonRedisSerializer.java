@@ -0,0 +1,61 @@
+package com.miniproject.todolist.cache;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Stores {@link CachedTodoJson} entries as {@code MAGIC, VERSION, etag length, etag,
+ * lastModified} followed by the response body as is, so reading an entry back is a header
+ * parse and one array copy.
+ */
+public class TodoJsonRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xB9;
+    static final byte VERSION = 1;
+
+    private static final int FIXED_HEADER_SIZE = 3 + Long.BYTES;
+
+    @Override
+    public byte[] serialize(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (!(value instanceof CachedTodoJson json)) {
+            throw new SerializationException("Cannot serialize " + value.getClass().getName() + " as todo JSON");
+        }
+        byte[] etag = json.etag() != null ? json.etag().getBytes(StandardCharsets.US_ASCII) : new byte[0];
+        if (etag.length > 255) {
+            throw new SerializationException("ETag too long: " + json.etag());
+        }
+        return ByteBuffer.allocate(FIXED_HEADER_SIZE + etag.length + json.body().length)
+                .put(MAGIC)
+                .put(VERSION)
+                .put((byte) etag.length)
+                .put(etag)
+                .putLong(json.lastModified())
+                .put(json.body())
+                .array();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        if (bytes.length < FIXED_HEADER_SIZE || bytes[0] != MAGIC || bytes[1] != VERSION) {
+            throw new SerializationException("Not a todo JSON cache entry");
+        }
+        int etagLength = bytes[2] & 0xFF;
+        if (bytes.length < FIXED_HEADER_SIZE + etagLength) {
+            throw new SerializationException("Truncated todo JSON cache entry");
+        }
+        String etag = etagLength > 0 ? new String(bytes, 3, etagLength, StandardCharsets.US_ASCII) : null;
+        int bodyOffset = FIXED_HEADER_SIZE + etagLength;
+        long lastModified = ByteBuffer.wrap(bytes, 3 + etagLength, Long.BYTES).getLong();
+        return new CachedTodoJson(etag, lastModified, Arrays.copyOfRange(bytes, bodyOffset, bytes.length));
+    }
+}
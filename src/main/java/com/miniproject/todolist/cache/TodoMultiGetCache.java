@@ -0,0 +1,169 @@
+package com.miniproject.todolist.cache;
+
+import com.miniproject.todolist.dto.TodoResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bulk reads of the todos cache: L1 first, then every remaining key in one pipelined
+ * round trip of MGETs, then the misses from a single loader call, written back in one
+ * pipeline. Entries use the same keys and value encoding as the todos cache itself.
+ * <p>
+ * Back-fills are SET NX, so they never replace a value a concurrent update has just put.
+ * Redis errors degrade to loading from the database.
+ */
+@Slf4j
+@Component
+public class TodoMultiGetCache {
+
+    static final String TODOS_CACHE = "todos";
+    static final int MGET_CHUNK_SIZE = 500;
+
+    private final CacheManager cacheManager;
+    private final RedisCacheManager redisCacheManager;
+    private final RedisConnectionFactory connectionFactory;
+
+    public TodoMultiGetCache(CacheManager cacheManager,
+                             RedisCacheManager redisCacheManager,
+                             RedisConnectionFactory connectionFactory) {
+        this.cacheManager = cacheManager;
+        this.redisCacheManager = redisCacheManager;
+        this.connectionFactory = connectionFactory;
+    }
+
+    /**
+     * Returns the todos found for the given distinct ids; ids that exist neither in the cache
+     * nor in the loader's result are absent from the map.
+     */
+    public Map<Long, TodoResponse> getAll(Collection<Long> ids,
+                                          Function<Collection<Long>, List<TodoResponse>> loader) {
+        Map<Long, TodoResponse> found = new HashMap<>();
+        RedisCacheConfiguration config = redisCacheManager.getCacheConfigurations().get(TODOS_CACHE);
+        Cache cache = cacheManager.getCache(TODOS_CACHE);
+        TwoTierCache twoTier = cache instanceof TwoTierCache tiered ? tiered : null;
+
+        List<Long> remaining = new ArrayList<>();
+        for (Long id : ids) {
+            Object local = twoTier != null ? twoTier.peekLocal(id) : null;
+            if (local instanceof TodoResponse todo) {
+                found.put(id, todo);
+            } else {
+                remaining.add(id);
+            }
+        }
+
+        List<Long> misses = remaining;
+        if (config != null && !remaining.isEmpty()) {
+            misses = new ArrayList<>();
+            Map<Long, TodoResponse> remote = readRemote(config, remaining);
+            for (Long id : remaining) {
+                TodoResponse todo = remote.get(id);
+                if (todo != null) {
+                    found.put(id, todo);
+                    if (twoTier != null) {
+                        twoTier.fillLocal(id, todo);
+                    }
+                } else {
+                    misses.add(id);
+                }
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            List<TodoResponse> loaded = loader.apply(misses);
+            for (TodoResponse todo : loaded) {
+                found.put(todo.getId(), todo);
+                if (twoTier != null) {
+                    twoTier.fillLocal(todo.getId(), todo);
+                }
+            }
+            if (config != null) {
+                writeRemote(config, loaded);
+            }
+        }
+        return found;
+    }
+
+    private Map<Long, TodoResponse> readRemote(RedisCacheConfiguration config, List<Long> ids) {
+        Map<Long, TodoResponse> found = new HashMap<>();
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.openPipeline();
+            for (int from = 0; from < ids.size(); from += MGET_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + MGET_CHUNK_SIZE, ids.size()));
+                connection.stringCommands().mGet(chunk.stream().map(id -> key(config, id)).toArray(byte[][]::new));
+            }
+            List<Object> replies = connection.closePipeline();
+
+            int index = 0;
+            for (Object reply : replies) {
+                for (Object value : (List<?>) reply) {
+                    Long id = ids.get(index++);
+                    Object cached = value instanceof byte[] bytes
+                            ? config.getValueSerializationPair().read(ByteBuffer.wrap(bytes))
+                            : null;
+                    if (cached instanceof TodoResponse todo) {
+                        found.put(id, todo);
+                    }
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Bulk read of the todos cache failed, loading {} todos from the database", ids.size(), ex);
+            return Map.of();
+        }
+        return found;
+    }
+
+    private void writeRemote(RedisCacheConfiguration config, List<TodoResponse> todos) {
+        if (todos.isEmpty()) {
+            return;
+        }
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.openPipeline();
+            for (TodoResponse todo : todos) {
+                Duration ttl = config.getTtlFunction().getTimeToLive(todo.getId(), todo);
+                Expiration expiration = ttl.isZero() || ttl.isNegative()
+                        ? Expiration.persistent()
+                        : Expiration.from(ttl);
+                connection.stringCommands().set(key(config, todo.getId()), value(config, todo),
+                        expiration, SetOption.ifAbsent());
+            }
+            connection.closePipeline();
+        } catch (RuntimeException ex) {
+            // Nothing is lost: the next read of these todos loads and caches them one by one
+            log.warn("Back-filling {} todos into the todos cache failed", todos.size(), ex);
+        }
+    }
+
+    // Same key RedisCache builds for the todos cache
+    private static byte[] key(RedisCacheConfiguration config, Long id) {
+        String key = config.usePrefix() ? config.getKeyPrefixFor(TODOS_CACHE) + id : String.valueOf(id);
+        return bytes(config.getKeySerializationPair().write(key));
+    }
+
+    private static byte[] value(RedisCacheConfiguration config, TodoResponse todo) {
+        return bytes(config.getValueSerializationPair().write(todo));
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,100 @@
+package com.miniproject.todolist.cache;
+
+import com.miniproject.todolist.datasource.PrimaryReads;
+import com.miniproject.todolist.util.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.Callable;
+
+/**
+ * Caches list, filter and search pages under keys prefixed with a cluster-wide
+ * "todos generation" counter kept in Redis.
+ * <p>
+ * Any write bumps the counter, which makes every previously cached page unreachable
+ * without scanning or deleting keys; orphaned pages expire through their cache TTL.
+ * <p>
+ * Loaders run in a read-only transaction of their own, opened only on a miss, so callers
+ * stay outside any transaction and a hit never holds a pooled connection. The transaction
+ * reads from the primary: pages are shared by every client until the next write.
+ */
+@Slf4j
+@Component
+public class TodoPageCache {
+
+    public static final String TODOS_LIST = "todosList";
+    public static final String TODOS_FILTERED = "todosFiltered";
+    public static final String TODOS_SEARCH = "todosSearch";
+
+    static final String GENERATION_KEY = "todolist:todos:generation";
+
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public TodoPageCache(CacheManager cacheManager,
+                         StringRedisTemplate stringRedisTemplate,
+                         PlatformTransactionManager transactionManager) {
+        this.cacheManager = cacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * @param generation the generation the caller read with {@link #currentGeneration()} and
+     *                   derived its ETag from, so the page always matches the ETag sent with it
+     */
+    public <T> T get(String cacheName, long generation, String key, Callable<T> loader) {
+        Callable<T> load = inReadOnlyTransaction(loader);
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            try {
+                return load.call();
+            } catch (Exception ex) {
+                throw new Cache.ValueRetrievalException(key, loader, ex);
+            }
+        }
+        return cache.get(generation + ":" + key, load);
+    }
+
+    public long currentGeneration() {
+        String generation = stringRedisTemplate.opsForValue().get(GENERATION_KEY);
+        return generation != null ? Long.parseLong(generation) : 0L;
+    }
+
+    /**
+     * Bumps the generation once the surrounding transaction commits, so a concurrent
+     * reader cannot cache pre-commit data under the new generation.
+     */
+    public void bumpGeneration() {
+        TransactionCallbacks.afterCommit(this::incrementGeneration);
+    }
+
+    private <T> Callable<T> inReadOnlyTransaction(Callable<T> loader) {
+        return () -> PrimaryReads.call(() -> readOnlyTransaction.execute(status -> {
+            try {
+                return loader.call();
+            } catch (RuntimeException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new UndeclaredThrowableException(ex);
+            }
+        }));
+    }
+
+    private void incrementGeneration() {
+        try {
+            stringRedisTemplate.opsForValue().increment(GENERATION_KEY);
+        } catch (RuntimeException ex) {
+            // The write is already committed; stale pages age out with the cache TTL
+            log.error("Failed to bump todos cache generation", ex);
+        }
+    }
+}
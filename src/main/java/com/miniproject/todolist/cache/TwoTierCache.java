@@ -0,0 +1,452 @@
+package com.miniproject.todolist.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache backed by a bounded in-process L1 in front of a shared Redis L2.
+ * <p>
+ * Reads are served from L1 when possible and fall back to L2, populating L1 on the way.
+ * Writes go to L2 first, then L1, and are broadcast so other pods drop their L1 copy.
+ * L1 keys are the string form of the cache key, matching the invalidation messages.
+ * <p>
+ * Loads through {@link #get(Object, Callable)} are protected against stampedes: concurrent
+ * misses of a key on this instance wait for the one load in flight, an optional Redis lease
+ * lets a single instance reload a key, and hot keys are refreshed in the background shortly
+ * before their Redis entry expires (XFetch), so they rarely miss at all.
+ */
+@Slf4j
+public class TwoTierCache implements Cache {
+
+    private static final Duration LEASE_POLL_INTERVAL = Duration.ofMillis(20);
+    // Load time assumed for early refresh until this instance has timed a load itself
+    private static final long INITIAL_LOAD_NANOS = Duration.ofMillis(10).toNanos();
+
+    private final String name;
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    // Remote expiry (System.nanoTime based) of L1 entries, for early refresh
+    private final com.github.benmanes.caffeine.cache.Cache<String, Long> expiries;
+    private final TwoTierCacheManager manager;
+    private final ConcurrentMap<String, CompletableFuture<Object>> loads = new ConcurrentHashMap<>();
+    private final Counter coalesced;
+    private final Counter leaseServed;
+    private final Counter leaseTimedOut;
+    private final Counter refreshed;
+    private final Counter refreshFailed;
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Counter puts;
+    private final Counter evictions;
+    private final Timer loadsSucceeded;
+    private final Timer loadsFailed;
+    private volatile long loadNanos = INITIAL_LOAD_NANOS;
+
+    TwoTierCache(String name,
+                 Cache remote,
+                 com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+                 com.github.benmanes.caffeine.cache.Cache<String, Long> expiries,
+                 TwoTierCacheManager manager) {
+        this.name = name;
+        this.remote = remote;
+        this.local = local;
+        this.expiries = expiries;
+        this.manager = manager;
+        this.coalesced = manager.counter("todolist.cache.coalesced", name,
+                "Cache misses that waited for a load already in flight on this instance");
+        this.leaseServed = manager.counter("todolist.cache.lease.waits", name,
+                "Cache misses served by the instance holding the reload lease", "outcome", "served");
+        this.leaseTimedOut = manager.counter("todolist.cache.lease.waits", name,
+                "Cache misses served by the instance holding the reload lease", "outcome", "timeout");
+        this.refreshed = manager.counter("todolist.cache.refreshes", name,
+                "Entries reloaded in the background before they expired", "outcome", "success");
+        this.refreshFailed = manager.counter("todolist.cache.refreshes", name,
+                "Entries reloaded in the background before they expired", "outcome", "failure");
+        this.localHits = manager.counter("todolist.cache.gets", name,
+                "Cache lookups per tier", "tier", "local", "result", "hit");
+        this.localMisses = manager.counter("todolist.cache.gets", name,
+                "Cache lookups per tier", "tier", "local", "result", "miss");
+        this.remoteHits = manager.counter("todolist.cache.gets", name,
+                "Cache lookups per tier", "tier", "remote", "result", "hit");
+        this.remoteMisses = manager.counter("todolist.cache.gets", name,
+                "Cache lookups per tier", "tier", "remote", "result", "miss");
+        this.puts = manager.counter("todolist.cache.puts", name, "Entries written to the cache");
+        this.evictions = manager.counter("todolist.cache.evictions", name,
+                "Explicit evictions and clears of the cache");
+        this.loadsSucceeded = manager.timer("todolist.cache.loads", name,
+                "Time spent loading missing entries", "outcome", "success");
+        this.loadsFailed = manager.timer("todolist.cache.loads", name,
+                "Time spent loading missing entries", "outcome", "failure");
+        manager.gauge("todolist.cache.local.size", name, "Entries held in the in-process tier", local);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            localHits.increment();
+            return new SimpleValueWrapper(value);
+        }
+        localMisses.increment();
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            remoteHits.increment();
+            local.put(localKey, wrapper.get());
+        } else {
+            remoteMisses.increment();
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            localHits.increment();
+            if (shouldRefreshEarly(localKey)) {
+                refreshInBackground(key, localKey, value, valueLoader);
+            }
+            return (T) value;
+        }
+        localMisses.increment();
+
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loads.putIfAbsent(localKey, load);
+        if (inFlight != null) {
+            coalesced.increment();
+            return (T) await(inFlight);
+        }
+        try {
+            Object loaded = fetch(key, localKey, load, valueLoader);
+            load.complete(loaded);
+            return (T) loaded;
+        } catch (RuntimeException | Error ex) {
+            load.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            loads.remove(localKey, load);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        puts.increment();
+        remote.put(key, value);
+        putLocal(localKey(key), value);
+        manager.publishEvict(name, localKey(key));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        if (existing == null) {
+            puts.increment();
+            putLocal(localKey(key), value);
+            manager.publishEvict(name, localKey(key));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictions.increment();
+        remote.evict(key);
+        evictLocal(localKey(key));
+        manager.publishEvict(name, localKey(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        evictions.increment();
+        boolean evicted = remote.evictIfPresent(key);
+        evictLocal(localKey(key));
+        manager.publishEvict(name, localKey(key));
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        evictions.increment();
+        remote.clear();
+        clearLocal();
+        manager.publishClear(name);
+    }
+
+    @Override
+    public boolean invalidate() {
+        evictions.increment();
+        boolean invalidated = remote.invalidate();
+        clearLocal();
+        manager.publishClear(name);
+        return invalidated;
+    }
+
+    // L1 only, for bulk readers that fetch from Redis themselves
+    Object peekLocal(Object key) {
+        Object value = local.getIfPresent(localKey(key));
+        (value != null ? localHits : localMisses).increment();
+        return value;
+    }
+
+    // L1 only and not broadcast, like a value loaded through get(key, loader)
+    void fillLocal(Object key, Object value) {
+        putLocal(localKey(key), value);
+    }
+
+    // Like putLocal, detaches loads in flight so later misses do not join one that predates the change
+    // Loads are detached before L1 is dropped, so a load that fills L1 and then still finds
+    // itself registered cannot have missed the invalidation (see fillLocalIfCurrent)
+    void evictLocal(String localKey) {
+        loads.remove(localKey);
+        local.invalidate(localKey);
+        expiries.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        loads.clear();
+        local.invalidateAll();
+        expiries.invalidateAll();
+    }
+
+    private void putLocal(String localKey, Object value) {
+        expiries.invalidate(localKey);
+        loads.remove(localKey);
+        if (value != null) {
+            local.put(localKey, value);
+        } else {
+            local.invalidate(localKey);
+        }
+    }
+
+    private Object fetch(Object key, String localKey, CompletableFuture<Object> load, Callable<?> valueLoader) {
+        Object cached = getRemote(key, localKey, load);
+        if (cached != null) {
+            remoteHits.increment();
+            return cached;
+        }
+        remoteMisses.increment();
+        if (!manager.stampedeSettings().leasesEnabled()) {
+            return loadAndStore(key, localKey, load, valueLoader);
+        }
+        if (manager.acquireLease(name, localKey)) {
+            try {
+                return loadAndStore(key, localKey, load, valueLoader);
+            } finally {
+                manager.releaseLease(name, localKey);
+            }
+        }
+        Object leased = awaitLeaseholder(key);
+        if (leased != null) {
+            leaseServed.increment();
+            // Just stored by the leaseholder, so it has about the full time to live left
+            fillLocalIfCurrent(localKey, load, leased, manager.timeToLive(name, key, leased));
+            return leased;
+        }
+        // The leaseholder is slow or failed; loading here beats failing the request
+        leaseTimedOut.increment();
+        return loadAndStore(key, localKey, load, valueLoader);
+    }
+
+    // Fills L1 on a hit; with early refresh on, the remote expiry is read in the same round trip
+    private Object getRemote(Object key, String localKey, CompletableFuture<Object> load) {
+        if (manager.stampedeSettings().earlyRefreshEnabled()) {
+            TwoTierCacheManager.RemoteEntry entry = manager.getWithTimeToLive(name, key);
+            if (entry != null) {
+                if (entry.value() != null) {
+                    fillLocalIfCurrent(localKey, load, entry.value(), entry.timeToLive());
+                }
+                return entry.value();
+            }
+        }
+        ValueWrapper wrapper = remote.get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null) {
+            fillLocalIfCurrent(localKey, load, value, null);
+        }
+        return value;
+    }
+
+    /**
+     * Fills L1 with a value read or loaded for {@code load}, unless a put or evict detached the
+     * load meanwhile: the value may predate that write and would otherwise be served for the
+     * whole L1 time-to-live. Checked again after the put, as the eviction may land in between.
+     */
+    private boolean fillLocalIfCurrent(String localKey, CompletableFuture<Object> load, Object value,
+                                       Duration remaining) {
+        if (loads.get(localKey) != load) {
+            return false;
+        }
+        local.put(localKey, value);
+        recordExpiry(localKey, remaining);
+        if (loads.get(localKey) != load) {
+            local.asMap().remove(localKey, value);
+            expiries.invalidate(localKey);
+            return false;
+        }
+        return true;
+    }
+
+    private Object awaitLeaseholder(Object key) {
+        long deadline = System.nanoTime() + manager.stampedeSettings().leaseWait().toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(LEASE_POLL_INTERVAL);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            ValueWrapper wrapper = remote.get(key);
+            if (wrapper != null && wrapper.get() != null) {
+                return wrapper.get();
+            }
+        }
+        return null;
+    }
+
+    private Object loadAndStore(Object key, String localKey, CompletableFuture<Object> load, Callable<?> valueLoader) {
+        Object value = load(key, valueLoader);
+        // Skip the write if the key was changed or evicted while loading, so a load that started
+        // before a put or delete neither overwrites the new value nor brings the old one back
+        if (value != null && loads.get(localKey) == load) {
+            remote.put(key, value);
+            if (!fillLocalIfCurrent(localKey, load, value, manager.timeToLive(name, key, value))) {
+                // Detached during the write: drop what was stored rather than outlive the change
+                remote.evict(key);
+            }
+        }
+        return value;
+    }
+
+    private Object load(Object key, Callable<?> valueLoader) {
+        long start = System.nanoTime();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception ex) {
+            loadsFailed.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        // Moving average, weighted towards recent loads
+        long elapsed = System.nanoTime() - start;
+        loadsSucceeded.record(elapsed, TimeUnit.NANOSECONDS);
+        loadNanos = (loadNanos * 4 + elapsed) / 5;
+        return value;
+    }
+
+    private void recordExpiry(String localKey, Duration remaining) {
+        if (!manager.stampedeSettings().earlyRefreshEnabled()) {
+            return;
+        }
+        if (remaining != null) {
+            expiries.put(localKey, System.nanoTime() + remaining.toNanos());
+        } else {
+            expiries.invalidate(localKey);
+        }
+    }
+
+    // XFetch: refresh with a probability that rises as the remote expiry nears, earlier for slow loads
+    private boolean shouldRefreshEarly(String localKey) {
+        Long expiresAt = expiries.getIfPresent(localKey);
+        if (expiresAt == null) {
+            return false;
+        }
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+        double headStart = loadNanos * manager.stampedeSettings().earlyRefreshBeta() * -Math.log(random);
+        return System.nanoTime() + headStart >= expiresAt;
+    }
+
+    private void refreshInBackground(Object key, String localKey, Object current, Callable<?> valueLoader) {
+        CompletableFuture<Object> refresh = new CompletableFuture<>();
+        if (loads.putIfAbsent(localKey, refresh) != null) {
+            return;
+        }
+        // One refresh per expiry; hits until it lands are served the current value
+        expiries.invalidate(localKey);
+        manager.refreshExecutor().execute(() -> {
+            boolean leased = !manager.stampedeSettings().leasesEnabled() || manager.acquireLease(name, localKey);
+            try {
+                if (!leased) {
+                    // Another instance is refreshing this key
+                    refresh.complete(current);
+                    return;
+                }
+                Object value = load(key, valueLoader);
+                // Skip the write if the key was changed or evicted while loading
+                if (value != null && loads.get(localKey) == refresh) {
+                    remote.put(key, value);
+                    if (!fillLocalIfCurrent(localKey, refresh, value, manager.timeToLive(name, key, value))) {
+                        remote.evict(key);
+                    }
+                }
+                refreshed.increment();
+                refresh.complete(value != null ? value : current);
+            } catch (RuntimeException ex) {
+                refreshFailed.increment();
+                log.debug("Early refresh of '{}' in cache '{}' failed", localKey, name, ex);
+                refresh.complete(current);
+            } finally {
+                if (leased && manager.stampedeSettings().leasesEnabled()) {
+                    manager.releaseLease(name, localKey);
+                }
+                loads.remove(localKey, refresh);
+            }
+        });
+    }
+
+    private static Object await(CompletableFuture<Object> load) {
+        try {
+            return load.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,261 @@
+package com.miniproject.todolist.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.util.ByteUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Wraps the Redis cache manager with a per-pod L1 for every cache it serves.
+ * <p>
+ * Every L1 write or eviction is published on {@link #INVALIDATION_CHANNEL} so the other
+ * replicas evict their copy. Messages published by this instance are ignored on receipt.
+ * Invalidations lost while the subscription is down are bounded by the L1 time-to-live.
+ * <p>
+ * Reload leases are plain Redis keys under {@link #LEASE_PREFIX}, set with NX and a short
+ * expiry so a crashed leaseholder blocks nobody for long.
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager, MessageListener, DisposableBean {
+
+    public static final String INVALIDATION_CHANNEL = "todolist:cache:invalidation";
+    public static final String LEASE_PREFIX = "todolist:cache:lease:";
+
+    private static final String EVICT = "E";
+    private static final String CLEAR = "C";
+
+    // Only the holder may release, a lease that expired and was taken over stays with its new owner
+    private static final RedisScript<Long> RELEASE_LEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final CacheManager remoteCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final long localMaximumSize;
+    private final Duration localTimeToLive;
+    private final CacheStampedeSettings stampedeSettings;
+    private final MeterRegistry meterRegistry;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+    private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public TwoTierCacheManager(CacheManager remoteCacheManager,
+                               StringRedisTemplate redisTemplate,
+                               long localMaximumSize,
+                               Duration localTimeToLive) {
+        this(remoteCacheManager, redisTemplate, localMaximumSize, localTimeToLive,
+                CacheStampedeSettings.coalescingOnly(), new SimpleMeterRegistry());
+    }
+
+    public TwoTierCacheManager(CacheManager remoteCacheManager,
+                               StringRedisTemplate redisTemplate,
+                               long localMaximumSize,
+                               Duration localTimeToLive,
+                               CacheStampedeSettings stampedeSettings,
+                               MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.localMaximumSize = localMaximumSize;
+        this.localTimeToLive = localTimeToLive;
+        this.stampedeSettings = stampedeSettings;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    private TwoTierCache createCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localTimeToLive)
+                .build();
+        com.github.benmanes.caffeine.cache.Cache<String, Long> expiries = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localTimeToLive)
+                .build();
+        return new TwoTierCache(name, remote, local, expiries, this);
+    }
+
+    CacheStampedeSettings stampedeSettings() {
+        return stampedeSettings;
+    }
+
+    ExecutorService refreshExecutor() {
+        return refreshExecutor;
+    }
+
+    Counter counter(String meterName, String cacheName, String description, String... tags) {
+        return Counter.builder(meterName)
+                .description(description)
+                .tag("cache", cacheName)
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    Timer timer(String meterName, String cacheName, String description, String... tags) {
+        return Timer.builder(meterName)
+                .description(description)
+                .tag("cache", cacheName)
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    void gauge(String meterName, String cacheName, String description,
+               com.github.benmanes.caffeine.cache.Cache<?, ?> local) {
+        Gauge.builder(meterName, local, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+                .description(description)
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+    }
+
+    // Redis errors count as acquired: the caller then loads, as it would without leases
+    boolean acquireLease(String cacheName, String localKey) {
+        try {
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(leaseKey(cacheName, localKey), instanceId, stampedeSettings.leaseTime());
+            return !Boolean.FALSE.equals(acquired);
+        } catch (RuntimeException ex) {
+            log.debug("Could not take the reload lease for '{}' in cache '{}'", localKey, cacheName, ex);
+            return true;
+        }
+    }
+
+    void releaseLease(String cacheName, String localKey) {
+        try {
+            redisTemplate.execute(RELEASE_LEASE, List.of(leaseKey(cacheName, localKey)), instanceId);
+        } catch (RuntimeException ex) {
+            // It expires on its own shortly
+            log.debug("Could not release the reload lease for '{}' in cache '{}'", localKey, cacheName, ex);
+        }
+    }
+
+    /**
+     * Time to live the remote cache gives a value it stores now, or null when unknown or
+     * unlimited. Taken from the Redis cache configuration, so it costs no round trip.
+     */
+    Duration timeToLive(String cacheName, Object key, Object value) {
+        RedisCacheConfiguration config = redisCacheConfiguration(cacheName);
+        if (config == null) {
+            return null;
+        }
+        Duration ttl = config.getTtlFunction().getTimeToLive(key, value);
+        return ttl.isPositive() ? ttl : null;
+    }
+
+    /**
+     * Reads the remote entry for {@code key} together with the time it has left, pipelined
+     * into one round trip. Returns null when the remote cache is not a Redis cache, so the
+     * caller reads it the usual way. The key is built the way RedisCache builds it.
+     */
+    RemoteEntry getWithTimeToLive(String cacheName, Object key) {
+        RedisCacheConfiguration config = redisCacheConfiguration(cacheName);
+        if (config == null) {
+            return null;
+        }
+        String redisKey = config.usePrefix() ? config.getKeyPrefixFor(cacheName) + key : String.valueOf(key);
+        byte[] rawKey = ByteUtils.getBytes(config.getKeySerializationPair().write(redisKey));
+        // No result serializer: the value stays raw bytes for the cache's own serializer
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().get(rawKey);
+            connection.keyCommands().pTtl(rawKey);
+            return null;
+        }, null);
+        if (!(results.get(0) instanceof byte[] bytes)) {
+            return new RemoteEntry(null, null);
+        }
+        Object value = config.getValueSerializationPair().read(ByteBuffer.wrap(bytes));
+        Duration remaining = results.get(1) instanceof Long millis && millis > 0 ? Duration.ofMillis(millis) : null;
+        return new RemoteEntry(value, remaining);
+    }
+
+    private RedisCacheConfiguration redisCacheConfiguration(String cacheName) {
+        if (!(remoteCacheManager instanceof RedisCacheManager redisCacheManager)) {
+            return null;
+        }
+        return redisCacheManager.getCacheConfigurations().get(cacheName);
+    }
+
+    /**
+     * A remote value, null on a miss, and the time it has left, null when unknown.
+     */
+    record RemoteEntry(Object value, Duration timeToLive) {
+    }
+
+    private static String leaseKey(String cacheName, String localKey) {
+        return LEASE_PREFIX + cacheName + ":" + localKey;
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+
+    void publishEvict(String cacheName, String localKey) {
+        publish(EVICT, cacheName, localKey);
+    }
+
+    void publishClear(String cacheName) {
+        publish(CLEAR, cacheName, "");
+    }
+
+    private void publish(String operation, String cacheName, String localKey) {
+        String message = String.join("\n", instanceId, operation, cacheName, localKey);
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\n", 4);
+        if (parts.length < 4 || instanceId.equals(parts[0])) {
+            return;
+        }
+        TwoTierCache cache = caches.get(parts[2]);
+        if (cache == null) {
+            return;
+        }
+        if (CLEAR.equals(parts[1])) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[3]);
+        }
+        log.trace("Applied {} invalidation for cache '{}' from {}", parts[1], parts[2], parts[0]);
+    }
+}
@@ -0,0 +1,232 @@
+package com.miniproject.todolist.changefeed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.miniproject.todolist.dto.TodoChangeEvent;
+import com.miniproject.todolist.enums.TodoChangeType;
+import com.miniproject.todolist.repository.TodoChangeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongPredicate;
+
+/**
+ * Fans todo changes out to the open SSE streams of this instance. Each change is read from
+ * the log and serialized once, however many subscribers there are.
+ * <p>
+ * Event ids are not commit order: a write can commit an id below one already delivered.
+ * Resuming therefore re-reads the {@code todolist.stream.replay-overlap} before the resume
+ * point too. Events this instance has already broadcast are not sent again, but a client
+ * that reconnects may get events it has seen and should skip ids it already applied.
+ */
+@Slf4j
+@Component
+public class TodoChangeBroadcaster {
+
+    private final TodoChangeRepository changeRepository;
+    private final ObjectMapper objectMapper;
+    private final Set<TodoChangeSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Cache<Long, Boolean> broadcastIds;
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter slowConsumers;
+    private final int bufferSize;
+    private final int replayLimit;
+    private final Duration timeout;
+    private final Duration retention;
+    private final Duration replayOverlap;
+
+    public TodoChangeBroadcaster(TodoChangeRepository changeRepository,
+                                 Jackson2ObjectMapperBuilder jacksonBuilder,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${todolist.stream.buffer-size:256}") int bufferSize,
+                                 @Value("${todolist.stream.replay-limit:1000}") int replayLimit,
+                                 @Value("${todolist.stream.timeout:30m}") Duration timeout,
+                                 @Value("${todolist.stream.retention:24h}") Duration retention,
+                                 @Value("${todolist.stream.replay-overlap:30s}") Duration replayOverlap) {
+        this.changeRepository = changeRepository;
+        this.objectMapper = jacksonBuilder.build();
+        this.bufferSize = bufferSize;
+        this.replayLimit = replayLimit;
+        this.timeout = timeout;
+        this.retention = retention;
+        this.replayOverlap = replayOverlap;
+        this.broadcastIds = Caffeine.newBuilder().maximumSize(2L * replayLimit).build();
+        this.slowConsumers = Counter.builder("todolist.stream.disconnects")
+                .description("Change streams closed because the client fell behind")
+                .tag("reason", "slow-consumer")
+                .register(meterRegistry);
+        Gauge.builder("todolist.stream.subscribers", subscribers, Set::size)
+                .description("Open change streams")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream. With a Last-Event-ID the changes logged after it, and those that may have
+     * committed late just before it, are sent first. A single RESET event is sent instead when
+     * there are more than the replay limit or the log no longer reaches back that far.
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        TodoChangeSubscriber subscriber = new TodoChangeSubscriber(emitter, bufferSize, sender, this::onOverflow);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(ex -> subscribers.remove(subscriber));
+
+        // Registered before reading the log so nothing committed in between is missed
+        subscribers.add(subscriber);
+        try {
+            List<Set<DataWithMediaType>> replay = new ArrayList<>();
+            replay.add(SseEmitter.event().reconnectTime(3000).comment("connected").build());
+            LongPredicate replayed = eventId -> false;
+            if (lastEventId != null) {
+                List<TodoChangeEvent> missed = new ArrayList<>(
+                        changeRepository.findCommittedLate(lastEventId, replayOverlap, replayLimit));
+                missed.addAll(changeRepository.findAfter(lastEventId, replayLimit));
+                if (missed.size() > replayLimit || lastEventId < changeRepository.findOldestEventId() - 1) {
+                    long latest = changeRepository.findLatestEventId();
+                    replay.add(reset(latest));
+                    replayed = eventId -> eventId <= latest;
+                } else {
+                    Set<Long> replayedIds = new HashSet<>();
+                    for (TodoChangeEvent event : missed) {
+                        replay.add(toSse(event));
+                        replayedIds.add(event.getEventId());
+                    }
+                    replayed = replayedIds::contains;
+                }
+            }
+            subscriber.startLive(replay, replayed);
+        } catch (RuntimeException ex) {
+            subscribers.remove(subscriber);
+            throw ex;
+        }
+        return emitter;
+    }
+
+    /**
+     * Sends the changes a NOTIFY announced, or a RESET when the statement changed more todos
+     * than a client should be sent one by one (a bulk import, say).
+     */
+    public void publish(long firstEventId, long lastEventId) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        if (lastEventId - firstEventId + 1 > replayLimit) {
+            broadcast(null, reset(lastEventId));
+            return;
+        }
+        for (TodoChangeEvent event : changeRepository.findBetween(firstEventId, lastEventId)) {
+            broadcast(event.getEventId(), toSse(event));
+        }
+    }
+
+    /**
+     * Sends what was logged after {@code eventId}, or committed late just before it, for when
+     * notifications may have been missed. Returns the last event id covered.
+     */
+    public long publishAfter(long eventId) {
+        List<TodoChangeEvent> missed = changeRepository.findAfter(eventId, replayLimit);
+        if (missed.size() > replayLimit) {
+            long latest = changeRepository.findLatestEventId();
+            broadcast(null, reset(latest));
+            return latest;
+        }
+        for (TodoChangeEvent event : changeRepository.findCommittedLate(eventId, replayOverlap, replayLimit)) {
+            broadcast(event.getEventId(), toSse(event));
+        }
+        for (TodoChangeEvent event : missed) {
+            broadcast(event.getEventId(), toSse(event));
+        }
+        return missed.isEmpty() ? eventId : missed.getLast().getEventId();
+    }
+
+    public long latestEventId() {
+        return changeRepository.findLatestEventId();
+    }
+
+    // Keeps idle connections from being cut by proxies and finds clients that are gone
+    @Scheduled(fixedDelayString = "${todolist.stream.heartbeat-interval:15s}")
+    public void heartbeat() {
+        if (!subscribers.isEmpty()) {
+            broadcast(null, SseEmitter.event().comment("heartbeat").build());
+        }
+    }
+
+    // Every instance runs this; the delete is idempotent
+    @Scheduled(fixedDelayString = "${todolist.stream.purge-interval:10m}",
+            initialDelayString = "${todolist.stream.purge-interval:10m}")
+    public void purgeExpired() {
+        int purged = changeRepository.deleteOlderThan(LocalDateTime.now().minus(retention));
+        if (purged > 0) {
+            log.debug("Purged {} todo change log entries older than {}", purged, retention);
+        }
+    }
+
+    @PreDestroy
+    void closeAll() {
+        subscribers.forEach(TodoChangeSubscriber::close);
+        sender.shutdown();
+    }
+
+    private void broadcast(Long eventId, Set<DataWithMediaType> event) {
+        // A catch-up read overlaps what NOTIFY already delivered
+        if (eventId != null && broadcastIds.asMap().putIfAbsent(eventId, Boolean.TRUE) != null) {
+            return;
+        }
+        for (TodoChangeSubscriber subscriber : subscribers) {
+            subscriber.offer(eventId, event);
+        }
+    }
+
+    private void onOverflow(TodoChangeSubscriber subscriber) {
+        slowConsumers.increment();
+        subscribers.remove(subscriber);
+        log.debug("Closing change stream of a client that fell {} events behind", bufferSize);
+    }
+
+    private Set<DataWithMediaType> toSse(TodoChangeEvent event) {
+        return SseEmitter.event()
+                .id(String.valueOf(event.getEventId()))
+                .name(event.getType().name().toLowerCase())
+                .data(json(event))
+                .build();
+    }
+
+    private Set<DataWithMediaType> reset(long latestEventId) {
+        TodoChangeEvent event = new TodoChangeEvent(latestEventId, TodoChangeType.RESET, null, null, LocalDateTime.now());
+        return SseEmitter.event()
+                .id(String.valueOf(latestEventId))
+                .name("reset")
+                .data(json(event))
+                .build();
+    }
+
+    private String json(TodoChangeEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
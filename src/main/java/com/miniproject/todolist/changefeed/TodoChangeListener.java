@@ -0,0 +1,124 @@
+package com.miniproject.todolist.changefeed;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Holds the instance's single LISTEN on the todo_changes channel and hands every
+ * notification to the {@link TodoChangeBroadcaster}. The connection is opened outside the
+ * pool so it neither counts against the pool size nor the bulkhead. After a reconnect the
+ * log is read from shortly before the last event seen, so changes made while disconnected
+ * are not lost, including ones that committed with a lower id.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "todolist.stream.enabled", havingValue = "true", matchIfMissing = true)
+public class TodoChangeListener implements SmartLifecycle {
+
+    static final String CHANNEL = "todo_changes";
+
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final TodoChangeBroadcaster broadcaster;
+    private final String url;
+    private final String username;
+    private final String password;
+
+    private volatile boolean running;
+    private Thread thread;
+    private long lastEventId = -1;
+
+    public TodoChangeListener(TodoChangeBroadcaster broadcaster,
+                              @Value("${spring.datasource.url}") String url,
+                              @Value("${spring.datasource.username}") String username,
+                              @Value("${spring.datasource.password}") String password) {
+        this.broadcaster = broadcaster;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        thread = Thread.ofPlatform().name("todo-change-listener").daemon().start(this::run);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(POLL_TIMEOUT_MILLIS * 2L);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        Duration backoff = Duration.ofSeconds(1);
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                listen(connection);
+                backoff = Duration.ofSeconds(1);
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            onNotification(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException ex) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Todo change listener disconnected, retrying in {}: {}", backoff, ex.getMessage());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+                backoff = backoff.multipliedBy(2).compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    private void listen(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + CHANNEL);
+        }
+        // Listening before catching up: a change committed in between arrives twice (and is sent once), not never
+        lastEventId = lastEventId < 0 ? broadcaster.latestEventId() : broadcaster.publishAfter(lastEventId);
+        log.info("Listening for todo changes after event {}", lastEventId);
+    }
+
+    private void onNotification(String payload) {
+        int separator = payload.indexOf(':');
+        long first = Long.parseLong(payload, 0, separator, 10);
+        long last = Long.parseLong(payload, separator + 1, payload.length(), 10);
+        broadcaster.publish(first, last);
+        lastEventId = Math.max(lastEventId, last);
+    }
+}
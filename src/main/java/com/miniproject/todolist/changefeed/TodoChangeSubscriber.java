@@ -0,0 +1,129 @@
+package com.miniproject.todolist.changefeed;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.LongPredicate;
+
+/**
+ * One open stream. Events are queued in a bounded buffer and written by a sender task that
+ * only exists while the buffer is non-empty, so an idle subscriber holds no thread. A
+ * subscriber whose buffer overflows is disconnected and resumes with Last-Event-ID.
+ * <p>
+ * While the missed events are replayed, live events are held back and appended afterwards,
+ * except those the replay already covered.
+ */
+class TodoChangeSubscriber {
+
+    private final SseEmitter emitter;
+    private final int bufferSize;
+    private final Queue<Set<DataWithMediaType>> buffer;
+    private final Executor sender;
+    private final Consumer<TodoChangeSubscriber> onOverflow;
+    private final AtomicBoolean sending = new AtomicBoolean();
+
+    private List<Long> heldIds = new ArrayList<>();
+    private List<Set<DataWithMediaType>> held = new ArrayList<>();
+    private volatile boolean closed;
+
+    TodoChangeSubscriber(SseEmitter emitter, int bufferSize, Executor sender,
+                         Consumer<TodoChangeSubscriber> onOverflow) {
+        this.emitter = emitter;
+        this.bufferSize = bufferSize;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.sender = sender;
+        this.onOverflow = onOverflow;
+    }
+
+    /**
+     * Queues a live event; {@code eventId} is null for heartbeats and resets.
+     */
+    void offer(Long eventId, Set<DataWithMediaType> event) {
+        synchronized (this) {
+            if (held != null) {
+                if (held.size() >= bufferSize) {
+                    overflow();
+                } else {
+                    heldIds.add(eventId);
+                    held.add(event);
+                }
+                return;
+            }
+        }
+        enqueue(event);
+    }
+
+    /**
+     * Queues the replayed events, then the live events that arrived meanwhile and are not
+     * part of the replay, and switches to live delivery.
+     */
+    void startLive(List<Set<DataWithMediaType>> replay, LongPredicate replayed) {
+        for (Set<DataWithMediaType> event : replay) {
+            enqueue(event);
+        }
+        synchronized (this) {
+            for (int i = 0; i < held.size(); i++) {
+                Long eventId = heldIds.get(i);
+                if (eventId == null || !replayed.test(eventId)) {
+                    enqueue(held.get(i));
+                }
+            }
+            held = null;
+            heldIds = null;
+        }
+    }
+
+    void close() {
+        if (!closed) {
+            closed = true;
+            buffer.clear();
+            emitter.complete();
+        }
+    }
+
+    private void enqueue(Set<DataWithMediaType> event) {
+        if (closed) {
+            return;
+        }
+        if (!buffer.offer(event)) {
+            overflow();
+            return;
+        }
+        if (sending.compareAndSet(false, true)) {
+            sender.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            Set<DataWithMediaType> event;
+            while (!closed && (event = buffer.poll()) != null) {
+                emitter.send(event);
+            }
+        } catch (IOException | IllegalStateException ex) {
+            // Client went away; the emitter's completion callback unregisters it
+            closed = true;
+            buffer.clear();
+        } finally {
+            sending.set(false);
+        }
+        // An event queued between the last poll and the flag reset would otherwise wait for the next one
+        if (!closed && !buffer.isEmpty() && sending.compareAndSet(false, true)) {
+            sender.execute(this::drain);
+        }
+    }
+
+    private void overflow() {
+        onOverflow.accept(this);
+        close();
+    }
+}
@@ -1,23 +1,47 @@
 package com.miniproject.todolist.config;
 
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.miniproject.todolist.cache.CacheStampedeSettings;
+import com.miniproject.todolist.cache.TodoBinaryRedisSerializer;
+import com.miniproject.todolist.cache.TodoJsonCache;
+import com.miniproject.todolist.cache.TodoJsonRedisSerializer;
+import com.miniproject.todolist.cache.TodoPageCache;
+import com.miniproject.todolist.cache.TwoTierCacheManager;
+import com.miniproject.todolist.enums.CacheValueFormat;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
+// Caching advice wraps the transactional advice, so cache writes happen after commit
+// and cache hits never open a transaction.
 @Configuration
-@EnableCaching
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
 public class CacheConfig {
 
     @Bean
@@ -25,63 +49,95 @@ public class CacheConfig {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        // A custom mapper must carry type information itself, otherwise cached DTOs
+        // are read back as plain maps
+        objectMapper.activateDefaultTyping(
+                BasicPolymorphicTypeValidator.builder()
+                        .allowIfSubType("com.miniproject.todolist.")
+                        .allowIfSubType("java.util.")
+                        .build(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY);
         return new GenericJackson2JsonRedisSerializer(objectMapper);
     }
 
+    // Falls back to the JSON serializer for other value types and for entries written as JSON
     @Bean
-    public RedisCacheConfiguration cacheConfiguration(GenericJackson2JsonRedisSerializer jackson2JsonRedisSerializer) {
-        return RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(10))
-                .disableCachingNullValues()
-                .serializeValuesWith(
-                        RedisSerializationContext.SerializationPair.fromSerializer(jackson2JsonRedisSerializer)
-                );
+    public TodoBinaryRedisSerializer todoBinaryRedisSerializer(
+            GenericJackson2JsonRedisSerializer jackson2JsonRedisSerializer,
+            @Value("${todolist.cache.serializer.compression-threshold:1024}") int compressionThreshold) {
+        return new TodoBinaryRedisSerializer(jackson2JsonRedisSerializer, compressionThreshold);
     }
 
     @Bean
-    public RedisCacheManager cacheManager(
+    public RedisCacheManager redisCacheManager(
             RedisConnectionFactory connectionFactory,
-            GenericJackson2JsonRedisSerializer jackson2JsonRedisSerializer) {
+            Environment environment,
+            GenericJackson2JsonRedisSerializer jackson2JsonRedisSerializer,
+            TodoBinaryRedisSerializer todoBinaryRedisSerializer,
+            @Value("${todolist.cache.serializer.default-format:json}") CacheValueFormat defaultFormat) {
+
+        // Per-cache overrides, e.g. todolist.cache.serializer.formats.todos=binary
+        Map<String, CacheValueFormat> formats = Binder.get(environment)
+                .bind("todolist.cache.serializer.formats", Bindable.mapOf(String.class, CacheValueFormat.class))
+                .orElse(Map.of());
+        Function<String, RedisSerializer<Object>> serializerFor = cacheName ->
+                formats.getOrDefault(cacheName, defaultFormat) == CacheValueFormat.BINARY
+                        ? todoBinaryRedisSerializer
+                        : jackson2JsonRedisSerializer;
 
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
 
         // Individual todo cache - 15 minutes
         cacheConfigurations.put("todos",
-                RedisCacheConfiguration.defaultCacheConfig()
-                        .entryTtl(Duration.ofMinutes(15))
-                        .disableCachingNullValues()
-                        .serializeValuesWith(
-                                RedisSerializationContext.SerializationPair.fromSerializer(jackson2JsonRedisSerializer)
-                        ));
-
-        // List caches - 5 minutes
-        cacheConfigurations.put("todosList",
-                RedisCacheConfiguration.defaultCacheConfig()
-                        .entryTtl(Duration.ofMinutes(5))
-                        .disableCachingNullValues()
-                        .serializeValuesWith(
-                                RedisSerializationContext.SerializationPair.fromSerializer(jackson2JsonRedisSerializer)
-                        ));
+                cacheConfiguration(Duration.ofMinutes(15), serializerFor.apply("todos")));
 
-        cacheConfigurations.put("todosFiltered",
-                RedisCacheConfiguration.defaultCacheConfig()
-                        .entryTtl(Duration.ofMinutes(5))
-                        .disableCachingNullValues()
-                        .serializeValuesWith(
-                                RedisSerializationContext.SerializationPair.fromSerializer(jackson2JsonRedisSerializer)
-                        ));
+        // Pre-serialized single-todo responses - same lifetime as the todos cache, always stored raw
+        cacheConfigurations.put(TodoJsonCache.TODOS_JSON,
+                cacheConfiguration(Duration.ofMinutes(15), new TodoJsonRedisSerializer()));
 
-        cacheConfigurations.put("todosSearch",
-                RedisCacheConfiguration.defaultCacheConfig()
-                        .entryTtl(Duration.ofMinutes(5))
-                        .disableCachingNullValues()
-                        .serializeValuesWith(
-                                RedisSerializationContext.SerializationPair.fromSerializer(jackson2JsonRedisSerializer)
-                        ));
+        // List caches - 5 minutes
+        for (String cacheName : List.of(TodoPageCache.TODOS_LIST, TodoPageCache.TODOS_FILTERED, TodoPageCache.TODOS_SEARCH)) {
+            cacheConfigurations.put(cacheName,
+                    cacheConfiguration(Duration.ofMinutes(5), serializerFor.apply(cacheName)));
+        }
 
         return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(cacheConfiguration(jackson2JsonRedisSerializer))
+                .cacheDefaults(cacheConfiguration(Duration.ofMinutes(10), serializerFor.apply("")))
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
     }
-}
\ No newline at end of file
+
+    private static RedisCacheConfiguration cacheConfiguration(Duration ttl, RedisSerializer<Object> serializer) {
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(ttl)
+                .disableCachingNullValues()
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer));
+    }
+
+    // Near cache: bounded in-process L1 in front of the Redis caches above
+    @Bean
+    @Primary
+    public TwoTierCacheManager cacheManager(
+            RedisCacheManager redisCacheManager,
+            StringRedisTemplate stringRedisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${todolist.cache.local.maximum-size:10000}") long localMaximumSize,
+            @Value("${todolist.cache.local.time-to-live:30s}") Duration localTimeToLive,
+            @Value("${todolist.cache.stampede.lease-time:0s}") Duration leaseTime,
+            @Value("${todolist.cache.stampede.lease-wait:500ms}") Duration leaseWait,
+            @Value("${todolist.cache.stampede.early-refresh-beta:1.0}") double earlyRefreshBeta) {
+        return new TwoTierCacheManager(redisCacheManager, stringRedisTemplate, localMaximumSize, localTimeToLive,
+                new CacheStampedeSettings(leaseTime, leaseWait, earlyRefreshBeta), meterRegistry);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            TwoTierCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoTierCacheManager.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
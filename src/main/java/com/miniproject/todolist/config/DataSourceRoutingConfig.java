@@ -0,0 +1,83 @@
+package com.miniproject.todolist.config;
+
+import com.miniproject.todolist.datasource.PrimaryStickiness;
+import com.miniproject.todolist.datasource.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured pool with one pool per database when
+ * {@code todolist.datasource.routing.enabled=true}. Every pool takes its settings from
+ * {@code spring.datasource.hikari} and reports Hikari metrics under its own pool name.
+ */
+@Configuration
+@ConditionalOnProperty(name = "todolist.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${todolist.datasource.routing.replica-urls:}") List<String> replicaUrls,
+            @Value("${todolist.datasource.routing.sticky-window:5s}") Duration stickyWindow) {
+        HikariConfig primaryConfig = new HikariConfig();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primaryConfig));
+        primaryConfig.setJdbcUrl(url);
+        primaryConfig.setUsername(username);
+        primaryConfig.setPassword(password);
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String replicaUrl : replicaUrls) {
+            if (replicaUrl.isBlank()) {
+                continue;
+            }
+            HikariConfig replicaConfig = new HikariConfig();
+            primaryConfig.copyStateTo(replicaConfig);
+            replicaConfig.setJdbcUrl(replicaUrl.trim());
+            replicaConfig.setPoolName("todolist-replica-" + replicas.size());
+            replicaConfig.setReadOnly(true);
+            // A replica that is down at startup should not keep the application from starting
+            replicaConfig.setInitializationFailTimeout(-1);
+            replicaConfig.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new HikariDataSource(replicaConfig));
+        }
+
+        primaryConfig.setPoolName("todolist-primary");
+        primaryConfig.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        HikariDataSource primary = new HikariDataSource(primaryConfig);
+
+        return new ReadWriteRoutingDataSource(primary, replicas,
+                new PrimaryStickiness(stickyWindow, Clock.systemUTC()), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        // Known up front so the proxy does not borrow a connection just to find out
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return dataSource;
+    }
+}
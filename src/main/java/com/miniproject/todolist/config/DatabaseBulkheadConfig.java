@@ -0,0 +1,97 @@
+package com.miniproject.todolist.config;
+
+import com.miniproject.todolist.datasource.BulkheadDataSource;
+import com.miniproject.todolist.datasource.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Puts a {@link BulkheadDataSource} in front of every connection pool when
+ * {@code todolist.bulkhead.enabled=true}. Each bulkhead is sized to its own pool by default,
+ * so requests beyond what that pool can serve get a 503 after a short wait instead of
+ * queueing for the full connection timeout.
+ * <p>
+ * The bulkheads sit below the routing layer and behind a LazyConnectionDataSourceProxy:
+ * a replica that is saturated does not turn away writes, and transactions that never run
+ * a statement (e.g. cache hits) take no permit.
+ */
+@Configuration
+@ConditionalOnProperty(name = "todolist.bulkhead.enabled", havingValue = "true")
+public class DatabaseBulkheadConfig {
+
+    @Bean
+    public static BulkheadPostProcessor databaseBulkheadPostProcessor(Environment environment) {
+        return new BulkheadPostProcessor(
+                environment.getProperty("todolist.bulkhead.max-concurrent", Integer.class),
+                environment.getProperty("todolist.bulkhead.acquire-timeout", Duration.class, Duration.ofMillis(250)),
+                environment.getProperty("todolist.bulkhead.retry-after", Duration.class, Duration.ofSeconds(1)));
+    }
+
+    @Bean
+    public MeterBinder databaseBulkheadMetrics(BulkheadPostProcessor bulkheads) {
+        return registry -> bulkheads.bulkheads.forEach((target, bulkhead) -> {
+            Gauge.builder("todolist.db.bulkhead.available", bulkhead, BulkheadDataSource::getAvailablePermits)
+                    .description("Free database connection slots")
+                    .tag("target", target)
+                    .register(registry);
+            FunctionCounter.builder("todolist.db.bulkhead.rejections", bulkhead, BulkheadDataSource::getRejections)
+                    .description("Requests turned away because every connection slot was taken")
+                    .tag("target", target)
+                    .register(registry);
+        });
+    }
+
+    static class BulkheadPostProcessor implements BeanPostProcessor {
+
+        private final Integer maxConcurrent;
+        private final Duration acquireTimeout;
+        private final Duration retryAfter;
+        private final Map<String, BulkheadDataSource> bulkheads = new ConcurrentHashMap<>();
+
+        BulkheadPostProcessor(Integer maxConcurrent, Duration acquireTimeout, Duration retryAfter) {
+            this.maxConcurrent = maxConcurrent;
+            this.acquireTimeout = acquireTimeout;
+            this.retryAfter = retryAfter;
+        }
+
+        @Override
+        public Object postProcessBeforeInitialization(Object bean, String beanName) {
+            // With routing enabled the pools are only reachable from here, before the targets are resolved
+            if (bean instanceof ReadWriteRoutingDataSource routingDataSource) {
+                routingDataSource.decorateTargets(this::bulkhead);
+            }
+            return bean;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if ("dataSource".equals(beanName) && bean instanceof HikariDataSource pool) {
+                LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(bulkhead("primary", pool));
+                dataSource.setDefaultAutoCommit(pool.isAutoCommit());
+                dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+                return dataSource;
+            }
+            return bean;
+        }
+
+        private BulkheadDataSource bulkhead(String target, HikariDataSource pool) {
+            int permits = maxConcurrent != null ? maxConcurrent : pool.getMaximumPoolSize();
+            BulkheadDataSource bulkhead = new BulkheadDataSource(pool, permits, acquireTimeout, retryAfter);
+            bulkheads.put(target, bulkhead);
+            return bulkhead;
+        }
+    }
+}
@@ -1,29 +1,137 @@
 package com.miniproject.todolist.config;
 
+import com.miniproject.todolist.enums.MigrationMode;
+import lombok.extern.slf4j.Slf4j;
 import org.flywaydb.core.Flyway;
-import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.flywaydb.core.api.MigrationVersion;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
 
 import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
 
+// Runs once the context is up but before the runners and before readiness, so no request
+// or import sees an unmigrated schema
+@Slf4j
 @Configuration
 public class FlywayConfig {
 
+    private static final String LOCATION = "classpath:db/migration";
+    // Session-level advisory lock held by the instance that migrates ("todolist" in ASCII)
+    private static final long LEADER_LOCK_ID = 0x746f646f6c697374L;
+
     private final DataSource dataSource;
+    private final MigrationMode mode;
 
-    public FlywayConfig(DataSource dataSource) {
+    public FlywayConfig(DataSource dataSource,
+                        @Value("${todolist.migrations.mode:always}") MigrationMode mode) {
         this.dataSource = dataSource;
+        this.mode = mode;
     }
 
-    @EventListener(ApplicationReadyEvent.class)
+    @EventListener(ApplicationStartedEvent.class)
     public void migrateDatabase() {
+        if (mode == MigrationMode.SKIP) {
+            log.info("Skipping database migrations (todolist.migrations.mode=skip)");
+            return;
+        }
+        if (mode == MigrationMode.LEADER) {
+            migrateAsLeader();
+            return;
+        }
+        migrate();
+    }
+
+    private void migrate() {
         Flyway flyway = Flyway.configure()
                 .dataSource(dataSource)
-                .locations("classpath:db/migration")
+                .locations(LOCATION)
                 .baselineOnMigrate(true)
                 .load();
 
         flyway.migrate();
     }
-}
\ No newline at end of file
+
+    /**
+     * The instance that gets the advisory lock first migrates; the others block on the lock
+     * until it is done and then find the schema current. A leader that fails releases the
+     * lock with its session, and the next instance in line migrates instead.
+     */
+    private void migrateAsLeader() {
+        try (Connection connection = dataSource.getConnection()) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            // Scale-ups find the schema current without taking the lock
+            if (schemaIsCurrent(jdbcTemplate)) {
+                log.info("Schema is at the latest bundled migration, skipping Flyway");
+                return;
+            }
+            if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT pg_try_advisory_lock(?)", Boolean.class, LEADER_LOCK_ID))) {
+                log.info("Another instance is migrating the schema, waiting for it to finish");
+                jdbcTemplate.execute("SELECT pg_advisory_lock(" + LEADER_LOCK_ID + ")");
+            }
+            try {
+                if (schemaIsCurrent(jdbcTemplate)) {
+                    log.info("Schema was migrated by another instance, skipping Flyway");
+                    return;
+                }
+                log.info("Migrating the schema as leader");
+                migrate();
+            } finally {
+                jdbcTemplate.queryForObject("SELECT pg_advisory_unlock(?)", Boolean.class, LEADER_LOCK_ID);
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Could not elect a migration leader", ex);
+        }
+    }
+
+    /**
+     * Compares the newest successfully applied version with the newest bundled migration by
+     * file name only: one query and a directory listing, where Flyway itself would read and
+     * checksum every script. Any doubt counts as not current.
+     */
+    private boolean schemaIsCurrent(JdbcTemplate jdbcTemplate) {
+        MigrationVersion bundled = bundledVersions().stream()
+                .max(MigrationVersion::compareTo)
+                .orElse(null);
+        if (bundled == null) {
+            return false;
+        }
+        try {
+            List<String> applied = jdbcTemplate.queryForList(
+                    "SELECT version FROM flyway_schema_history WHERE success AND version IS NOT NULL "
+                            + "ORDER BY installed_rank DESC LIMIT 1",
+                    String.class);
+            return !applied.isEmpty() && MigrationVersion.fromVersion(applied.getFirst()).compareTo(bundled) >= 0;
+        } catch (DataAccessException ex) {
+            // No history table yet
+            return false;
+        }
+    }
+
+    private static List<MigrationVersion> bundledVersions() {
+        try {
+            Resource[] scripts = new PathMatchingResourcePatternResolver().getResources(LOCATION + "/V*__*.sql");
+            return Arrays.stream(scripts)
+                    .map(Resource::getFilename)
+                    .filter(Objects::nonNull)
+                    .map(name -> MigrationVersion.fromVersion(name.substring(1, name.indexOf("__"))))
+                    .toList();
+        } catch (IOException ex) {
+            log.warn("Could not list bundled migrations, running Flyway", ex);
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.miniproject.todolist.config;
+
+import io.lettuce.core.metrics.MicrometerOptions;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Options for the command latency recorder Spring Boot's Lettuce metrics auto-configuration
+ * installs, which times every Redis command into lettuce.command.completion and
+ * lettuce.command.firstresponse, tagged by command type. Boot keeps building the client
+ * resources and applying the other customizers.
+ */
+@Configuration
+public class RedisMetricsConfig {
+
+    @Bean
+    public MicrometerOptions lettuceMicrometerOptions() {
+        return MicrometerOptions.builder()
+                .histogram(true)
+                .minLatency(Duration.ofNanos(100_000))
+                .maxLatency(Duration.ofSeconds(1))
+                // One series per command type, not per command type and Redis endpoint
+                .localDistinction(false)
+                .build();
+    }
+}
@@ -1,9 +1,13 @@
 package com.miniproject.todolist.config;
 
+import com.miniproject.todolist.enums.TagMatch;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.Locale;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
@@ -15,4 +19,11 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedHeaders("*")
                 .allowCredentials(true);
     }
+
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        // The API documents match=any|all, so accept any casing
+        registry.addConverter(String.class, TagMatch.class,
+                source -> TagMatch.valueOf(source.trim().toUpperCase(Locale.ROOT)));
+    }
 }
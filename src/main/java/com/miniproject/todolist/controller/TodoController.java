@@ -1,22 +1,54 @@
 package com.miniproject.todolist.controller;
 
+import com.miniproject.todolist.cache.CachedTodoJson;
+import com.miniproject.todolist.cache.TodoJsonCache;
+import com.miniproject.todolist.changefeed.TodoChangeBroadcaster;
+import com.miniproject.todolist.dto.CursorPage;
+import com.miniproject.todolist.dto.TagFilterPage;
+import com.miniproject.todolist.dto.TodoChangeEvent;
+import com.miniproject.todolist.dto.TodoBatchRequest;
+import com.miniproject.todolist.dto.TodoBatchResponse;
 import com.miniproject.todolist.dto.TodoCreateRequest;
+import com.miniproject.todolist.dto.TodoImportResult;
+import com.miniproject.todolist.dto.TodoLookupRequest;
+import com.miniproject.todolist.dto.TodoLookupResult;
+import com.miniproject.todolist.dto.TodoQuery;
 import com.miniproject.todolist.dto.TodoResponse;
+import com.miniproject.todolist.dto.TodoStatsResponse;
 import com.miniproject.todolist.dto.TodoUpdateRequest;
+import com.miniproject.todolist.enums.DataFormat;
+import com.miniproject.todolist.enums.TagMatch;
+import com.miniproject.todolist.export.TodoExportWriter;
+import com.miniproject.todolist.service.TodoImportService;
 import com.miniproject.todolist.service.TodoService;
+import com.miniproject.todolist.service.TodoStatsService;
+import com.miniproject.todolist.util.TodoETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.function.LongFunction;
 
 @RestController
 @RequestMapping("/api/v1/todos")
@@ -25,6 +57,11 @@ import org.springframework.web.bind.annotation.*;
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoExportWriter todoExportWriter;
+    private final TodoImportService todoImportService;
+    private final TodoStatsService todoStatsService;
+    private final TodoChangeBroadcaster todoChangeBroadcaster;
+    private final TodoJsonCache todoJsonCache;
 
     @PostMapping
     @Operation(
@@ -49,6 +86,31 @@ public class TodoController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Execute a batch of operations",
+            description = "Applies an ordered list of create, update and delete operations in a single transaction " +
+                    "and returns a result per operation. Missing todos are reported per item without aborting the batch; " +
+                    "every operation on an id that appears more than once fails with 400."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch executed; see per-operation statuses",
+                    content = @Content(schema = @Schema(implementation = TodoBatchResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid input data"
+            )
+    })
+    public ResponseEntity<TodoBatchResponse> executeBatch(
+            @Parameter(description = "Batch of operations", required = true)
+            @Valid @RequestBody TodoBatchRequest request) {
+        TodoBatchResponse response = todoService.executeBatch(request);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping
     @Operation(
             summary = "Get all todos with pagination",
@@ -59,15 +121,147 @@ public class TodoController {
                     responseCode = "200",
                     description = "Successfully retrieved todos",
                     content = @Content(schema = @Schema(implementation = Page.class))
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the ETag given in If-None-Match"
             )
     })
     public ResponseEntity<Page<TodoResponse>> getAllTodos(
             @Parameter(description = "Page number (0-indexed)", example = "0")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Number of items per page", example = "20")
-            @RequestParam(defaultValue = "20") int size) {
-        Page<TodoResponse> todos = todoService.getAllTodos(page, size);
-        return ResponseEntity.ok(todos);
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
+        return conditionalList(webRequest, generation -> todoService.getAllTodos(page, size, generation));
+    }
+
+    @GetMapping(params = "ids")
+    @Operation(
+            summary = "Get several todos by ID",
+            description = "Returns one result per requested id, in request order, with status 404 for unknown ids. " +
+                    "Cached todos are read in one Redis round trip and the rest in one database query. " +
+                    "Selected when the 'ids' parameter is present; use POST /lookup for long id lists."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Lookup finished; see the per-id statuses",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = TodoLookupResult.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid or too many ids"
+            )
+    })
+    public ResponseEntity<List<TodoLookupResult>> getTodosByIds(
+            @Parameter(description = "Comma-separated todo IDs (at most 1000)", example = "1,2,3", required = true)
+            @RequestParam List<Long> ids) {
+        return ResponseEntity.ok(todoService.getTodosByIds(ids));
+    }
+
+    @PostMapping("/lookup")
+    @Operation(
+            summary = "Get several todos by ID (request body)",
+            description = "Same as GET with 'ids', for id lists too long for a URL."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Lookup finished; see the per-id statuses",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = TodoLookupResult.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid input data"
+            )
+    })
+    public ResponseEntity<List<TodoLookupResult>> lookupTodos(
+            @Parameter(description = "IDs to look up", required = true)
+            @Valid @RequestBody TodoLookupRequest request) {
+        return ResponseEntity.ok(todoService.getTodosByIds(request.getIds()));
+    }
+
+    @GetMapping(params = {"limit", "!tag", "!ids"})
+    @Operation(
+            summary = "Get all todos with cursor pagination",
+            description = "Retrieves a slice of todo items, newest first, continuing after the given cursor. " +
+                    "Selected when the 'limit' parameter is present; no total count is computed."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved todos",
+                    content = @Content(schema = @Schema(implementation = CursorPage.class))
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the ETag given in If-None-Match"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor"
+            )
+    })
+    public ResponseEntity<CursorPage<TodoResponse>> scrollAllTodos(
+            @Parameter(description = "Cursor returned as nextCursor by the previous slice; omit for the first slice")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Maximum number of items per slice (1-100)", example = "20")
+            @RequestParam int limit,
+            WebRequest webRequest) {
+        return conditionalList(webRequest, generation -> todoService.scrollAllTodos(after, limit, generation));
+    }
+
+    @GetMapping(params = {"tag", "!ids"})
+    @Operation(
+            summary = "Filter todos by tag",
+            description = "Retrieves a slice of todos, newest first, carrying any (default) or all of the given tags. " +
+                    "Tags are matched case-insensitively. The first slice also returns the most common tags " +
+                    "across every matching todo."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved todos",
+                    content = @Content(schema = @Schema(implementation = TagFilterPage.class))
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the ETag given in If-None-Match"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor or match mode"
+            )
+    })
+    public ResponseEntity<TagFilterPage> filterByTags(
+            @Parameter(description = "Tag to filter by; repeat for several tags", required = true, example = "urgent")
+            @RequestParam List<String> tag,
+            @Parameter(description = "Whether todos need any or all of the tags (case-insensitive)", example = "any")
+            @RequestParam(defaultValue = "ANY") TagMatch match,
+            @Parameter(description = "Cursor returned as nextCursor by the previous slice; omit for the first slice")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Maximum number of items per slice (1-100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit,
+            WebRequest webRequest) {
+        return conditionalList(webRequest, generation -> todoService.filterByTags(tag, match, after, limit, generation));
+    }
+
+    @GetMapping("/stats")
+    @Operation(
+            summary = "Get todo statistics",
+            description = "Returns counts by completion status, priority and overdue status. Counts are read from " +
+                    "counters maintained on every write, so the cost does not grow with the number of todos."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved statistics",
+                    content = @Content(schema = @Schema(implementation = TodoStatsResponse.class))
+            )
+    })
+    public ResponseEntity<TodoStatsResponse> getStats() {
+        return ResponseEntity.ok(todoStatsService.getStats());
     }
 
     @GetMapping("/{id}")
@@ -79,24 +273,39 @@ public class TodoController {
             @ApiResponse(
                     responseCode = "200",
                     description = "Todo found",
-                    content = @Content(schema = @Schema(implementation = TodoResponse.class))
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = TodoResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the ETag given in If-None-Match"
             ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Todo not found"
             )
     })
-    public ResponseEntity<TodoResponse> getTodoById(
+    public ResponseEntity<byte[]> getTodoById(
             @Parameter(description = "ID of the todo to retrieve", required = true, example = "1")
             @PathVariable Long id) {
-        TodoResponse response = todoService.getTodoById(id);
-        return ResponseEntity.ok(response);
+        // A hit is the cached response bytes and validators: nothing is deserialized or
+        // serialized, and a matching If-None-Match turns into a 304 without writing them
+        CachedTodoJson json = todoJsonCache.get(id, () -> todoService.getTodoById(id));
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+        if (json.etag() != null) {
+            builder.eTag(json.etag());
+        }
+        if (json.lastModified() > 0) {
+            builder.lastModified(json.lastModified());
+        }
+        return builder.body(json.body());
     }
 
     @PutMapping("/{id}")
     @Operation(
             summary = "Update todo by ID",
-            description = "Updates an existing todo item with new values. All fields are optional."
+            description = "Updates an existing todo item with new values. All fields are optional. " +
+                    "With If-Match, the update only applies if the todo still has that ETag."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -111,21 +320,28 @@ public class TodoController {
             @ApiResponse(
                     responseCode = "400",
                     description = "Invalid input data"
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "The todo has changed since the ETag given in If-Match"
             )
     })
     public ResponseEntity<TodoResponse> updateTodo(
             @Parameter(description = "ID of the todo to update", required = true, example = "1")
             @PathVariable Long id,
             @Parameter(description = "Todo update request body", required = true)
-            @RequestBody TodoUpdateRequest request) {
-        TodoResponse response = todoService.updateTodo(id, request);
-        return ResponseEntity.ok(response);
+            @RequestBody TodoUpdateRequest request,
+            @Parameter(description = "ETag of the version being updated", example = "\"1-3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TodoResponse response = todoService.updateTodo(id, request, TodoETags.expectedVersion(id, ifMatch));
+        return okWithValidators(response);
     }
 
     @DeleteMapping("/{id}")
     @Operation(
             summary = "Delete todo by ID",
-            description = "Permanently deletes a todo item from the system"
+            description = "Permanently deletes a todo item from the system. " +
+                    "With If-Match, the todo is only deleted if it still has that ETag."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -135,12 +351,18 @@ public class TodoController {
             @ApiResponse(
                     responseCode = "404",
                     description = "Todo not found"
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "The todo has changed since the ETag given in If-Match"
             )
     })
     public ResponseEntity<Void> deleteTodo(
             @Parameter(description = "ID of the todo to delete", required = true, example = "1")
-            @PathVariable Long id) {
-        todoService.deleteTodo(id);
+            @PathVariable Long id,
+            @Parameter(description = "ETag of the version being deleted", example = "\"1-3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        todoService.deleteTodo(id, TodoETags.expectedVersion(id, ifMatch));
         return ResponseEntity.noContent().build();
     }
 
@@ -154,6 +376,10 @@ public class TodoController {
                     responseCode = "200",
                     description = "Successfully retrieved filtered todos",
                     content = @Content(schema = @Schema(implementation = Page.class))
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the ETag given in If-None-Match"
             )
     })
     public ResponseEntity<Page<TodoResponse>> filterByCompleted(
@@ -162,9 +388,40 @@ public class TodoController {
             @Parameter(description = "Page number (0-indexed)", example = "0")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Number of items per page", example = "20")
-            @RequestParam(defaultValue = "20") int size) {
-        Page<TodoResponse> todos = todoService.filterByCompleted(completed, page, size);
-        return ResponseEntity.ok(todos);
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
+        return conditionalList(webRequest, generation -> todoService.filterByCompleted(completed, page, size, generation));
+    }
+
+    @GetMapping(value = "/filter", params = "limit")
+    @Operation(
+            summary = "Filter todos by completion status with cursor pagination",
+            description = "Retrieves a slice of todos filtered by their completion status, continuing after the given cursor"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved filtered todos",
+                    content = @Content(schema = @Schema(implementation = CursorPage.class))
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the ETag given in If-None-Match"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor"
+            )
+    })
+    public ResponseEntity<CursorPage<TodoResponse>> scrollByCompleted(
+            @Parameter(description = "Completion status to filter by", required = true, example = "true")
+            @RequestParam Boolean completed,
+            @Parameter(description = "Cursor returned as nextCursor by the previous slice; omit for the first slice")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Maximum number of items per slice (1-100)", example = "20")
+            @RequestParam int limit,
+            WebRequest webRequest) {
+        return conditionalList(webRequest, generation -> todoService.scrollByCompleted(completed, after, limit, generation));
     }
 
     @GetMapping("/search")
@@ -177,6 +434,10 @@ public class TodoController {
                     responseCode = "200",
                     description = "Successfully retrieved search results",
                     content = @Content(schema = @Schema(implementation = Page.class))
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the ETag given in If-None-Match"
             )
     })
     public ResponseEntity<Page<TodoResponse>> searchByTitle(
@@ -185,8 +446,174 @@ public class TodoController {
             @Parameter(description = "Page number (0-indexed)", example = "0")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Number of items per page", example = "20")
-            @RequestParam(defaultValue = "20") int size) {
-        Page<TodoResponse> todos = todoService.searchByTitle(query, page, size);
-        return ResponseEntity.ok(todos);
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
+        return conditionalList(webRequest, generation -> todoService.searchByTitle(query, page, size, generation));
+    }
+
+    @GetMapping("/query")
+    @Operation(
+            summary = "Query todos with combined filters",
+            description = "Filters by completion status, priorities, due-date range and creation range in one call, " +
+                    "sorted by creation or due date. Example: open HIGH todos due before a date, soonest first: " +
+                    "?completed=false&priority=HIGH&dueBefore=2025-12-31T00:00:00&sort=DUE_DATE&direction=ASC"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved todos",
+                    content = @Content(schema = @Schema(implementation = Page.class))
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the ETag given in If-None-Match"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid filter"
+            )
+    })
+    public ResponseEntity<Page<TodoResponse>> queryTodos(
+            @ParameterObject @Valid TodoQuery query,
+            WebRequest webRequest) {
+        return conditionalList(webRequest, generation -> todoService.queryTodos(query, generation));
+    }
+
+    @GetMapping(value = "/search", params = "limit")
+    @Operation(
+            summary = "Search todos by title with cursor pagination",
+            description = "Retrieves a slice of todos whose title contains the query string (case-insensitive), " +
+                    "continuing after the given cursor"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved search results",
+                    content = @Content(schema = @Schema(implementation = CursorPage.class))
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the ETag given in If-None-Match"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor"
+            )
+    })
+    public ResponseEntity<CursorPage<TodoResponse>> scrollByTitle(
+            @Parameter(description = "Search query string", required = true, example = "meeting")
+            @RequestParam String query,
+            @Parameter(description = "Cursor returned as nextCursor by the previous slice; omit for the first slice")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Maximum number of items per slice (1-100)", example = "20")
+            @RequestParam int limit,
+            WebRequest webRequest) {
+        return conditionalList(webRequest, generation -> todoService.scrollByTitle(query, after, limit, generation));
+    }
+
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv", "application/octet-stream"})
+    @Operation(
+            summary = "Import todos",
+            description = "Bulk-loads todos from an NDJSON or CSV request body using PostgreSQL COPY. " +
+                    "Invalid records are skipped and reported by line number; valid records are committed together."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Import finished; see the per-line errors for rejected records",
+                    content = @Content(schema = @Schema(implementation = TodoImportResult.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unsupported format"
+            )
+    })
+    public ResponseEntity<TodoImportResult> importTodos(
+            @Parameter(description = "Input format: ndjson or csv", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format,
+            InputStream body) {
+        TodoImportResult result = todoImportService.importTodos(body, DataFormat.fromParameter(format));
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/export")
+    @Operation(
+            summary = "Export todos",
+            description = "Streams every todo, or only those with the given completion status, as NDJSON or CSV. " +
+                    "Rows are written as they are read from a database cursor, so memory use does not grow with the table."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Export stream",
+                    content = {
+                            @Content(mediaType = "application/x-ndjson"),
+                            @Content(mediaType = "text/csv")
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unsupported format"
+            )
+    })
+    public void exportTodos(
+            @Parameter(description = "Output format: ndjson or csv", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format,
+            @Parameter(description = "Only export todos with this completion status", example = "false")
+            @RequestParam(required = false) Boolean completed,
+            HttpServletResponse response) throws IOException {
+        DataFormat dataFormat = DataFormat.fromParameter(format);
+        response.setContentType(dataFormat.getMediaType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"todos." + dataFormat.getExtension() + "\"");
+        todoExportWriter.write(dataFormat, completed, response.getOutputStream());
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Stream todo changes",
+            description = "Server-Sent Events stream of created, updated and deleted todos, replacing periodic " +
+                    "polling of the list. Each event's id is its position in the change log; a client that " +
+                    "reconnects with Last-Event-ID first receives what it missed, or a reset event when that is " +
+                    "too much or no longer logged. Events may repeat after a reconnect and ids are not strictly " +
+                    "increasing; skip ids already applied. Clients that fall behind are disconnected and should reconnect."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Event stream",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            schema = @Schema(implementation = TodoChangeEvent.class))
+            )
+    })
+    public SseEmitter streamChanges(
+            @Parameter(description = "Id of the last event received, sent by EventSource on reconnect")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return todoChangeBroadcaster.subscribe(lastEventId);
+    }
+
+    // Lists are tagged with the cache generation, which is checked before any page is loaded.
+    // It is read once, so the ETag and the cached page always belong to the same generation
+    private <T> ResponseEntity<T> conditionalList(WebRequest webRequest, LongFunction<T> loader) {
+        long generation = todoService.getTodosGeneration();
+        String etag = TodoETags.ofGeneration(generation);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(loader.apply(generation));
+    }
+
+    // For GET, Spring answers a matching If-None-Match or If-Modified-Since with 304 itself
+    private static ResponseEntity<TodoResponse> okWithValidators(TodoResponse todo) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        String etag = TodoETags.of(todo);
+        if (etag != null) {
+            builder.eTag(etag);
+        }
+        if (todo.getUpdatedAt() != null) {
+            builder.lastModified(todo.getUpdatedAt().atZone(ZoneId.systemDefault()));
+        }
+        return builder.body(todo);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,35 @@
+package com.miniproject.todolist.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Marks reads that must go to the primary even inside a read-only transaction: loads whose
+ * result is written into a shared cache. A lagging replica would otherwise hand a row from
+ * before another client's write to every instance for the cache's whole time-to-live.
+ * <p>
+ * The mark must be in place when the connection is first used, which behind the lazy
+ * connection proxy is the first statement, not the start of the transaction.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T call(Supplier<T> read) {
+        Boolean previous = ACTIVE.get();
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            if (previous == null) {
+                ACTIVE.remove();
+            }
+        }
+    }
+
+    static boolean isActive() {
+        return ACTIVE.get() != null;
+    }
+}
@@ -0,0 +1,83 @@
+package com.miniproject.todolist.datasource;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Keeps reads on the primary for a client that has just written, so it never reads
+ * its own write back from a replica that has not replayed it yet.
+ * <p>
+ * Within a request the pin is a request attribute. Across requests it is a cookie
+ * holding the time until which the client stays on the primary; values further out
+ * than the configured window are ignored.
+ */
+public class PrimaryStickiness {
+
+    static final String COOKIE_NAME = "todolist-primary-until";
+
+    private static final String PINNED_ATTRIBUTE = PrimaryStickiness.class.getName() + ".PINNED";
+
+    private final Duration window;
+    private final Clock clock;
+
+    public PrimaryStickiness(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    public boolean isPinnedToPrimary() {
+        ServletRequestAttributes attributes = currentRequest();
+        if (attributes == null) {
+            return false;
+        }
+        if (attributes.getAttribute(PINNED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return true;
+        }
+        Cookie[] cookies = attributes.getRequest().getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        long now = clock.millis();
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    long until = Long.parseLong(cookie.getValue());
+                    return until > now && until <= now + window.toMillis();
+                } catch (NumberFormatException ex) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    public void recordWrite() {
+        ServletRequestAttributes attributes = currentRequest();
+        if (attributes == null
+                || attributes.getAttribute(PINNED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return;
+        }
+        attributes.setAttribute(PINNED_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+
+        HttpServletResponse response = attributes.getResponse();
+        if (response != null && !response.isCommitted()) {
+            Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(clock.millis() + window.toMillis()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+            response.addCookie(cookie);
+        }
+    }
+
+    private static ServletRequestAttributes currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes
+                : null;
+    }
+}
@@ -0,0 +1,94 @@
+package com.miniproject.todolist.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * Sends read-only transactions to the replicas in round-robin order and everything
+ * else to the primary, including reads inside {@link PrimaryReads#call}.
+ * <p>
+ * The lookup happens when a connection is actually needed, so this must sit behind a
+ * LazyConnectionDataSourceProxy: the transaction's read-only flag is only published
+ * after the transaction manager has asked for a connection.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    static final String PRIMARY = "primary";
+
+    private final Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+    private final List<String> replicaKeys = new ArrayList<>();
+    private final Map<String, Counter> routeCounters = new HashMap<>();
+    private final PrimaryStickiness stickiness;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(HikariDataSource primary,
+                                      List<HikariDataSource> replicas,
+                                      PrimaryStickiness stickiness,
+                                      MeterRegistry meterRegistry) {
+        this.stickiness = stickiness;
+
+        pools.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = "replica-" + i;
+            pools.put(key, replicas.get(i));
+            replicaKeys.add(key);
+        }
+        for (String key : pools.keySet()) {
+            routeCounters.put(key, Counter.builder("todolist.datasource.routes")
+                    .description("Connections handed out per routing target")
+                    .tag("target", key)
+                    .register(meterRegistry));
+        }
+
+        decorateTargets((key, pool) -> pool);
+    }
+
+    /**
+     * Wraps each pool, e.g. in a bulkhead of its own. Must be called before
+     * {@link #afterPropertiesSet()} resolves the targets.
+     */
+    public void decorateTargets(BiFunction<String, HikariDataSource, DataSource> decorator) {
+        Map<Object, Object> targets = new HashMap<>();
+        pools.forEach((key, pool) -> targets.put(key, decorator.apply(key, pool)));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(targets.get(PRIMARY));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String key = selectTarget();
+        routeCounters.get(key).increment();
+        return key;
+    }
+
+    private String selectTarget() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                stickiness.recordWrite();
+            }
+            return PRIMARY;
+        }
+        if (replicaKeys.isEmpty() || PrimaryReads.isActive() || stickiness.isPinnedToPrimary()) {
+            return PRIMARY;
+        }
+        return replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+    }
+
+    @Override
+    public void close() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
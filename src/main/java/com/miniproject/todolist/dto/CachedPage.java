@@ -0,0 +1,37 @@
+package com.miniproject.todolist.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Serializable snapshot of a {@link Page} of todos as stored in the page caches.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedPage {
+
+    private List<TodoResponse> content;
+
+    private int page;
+
+    private int size;
+
+    private long totalElements;
+
+    public static CachedPage of(Page<TodoResponse> page) {
+        return new CachedPage(new ArrayList<>(page.getContent()), page.getNumber(), page.getSize(), page.getTotalElements());
+    }
+
+    public Page<TodoResponse> toPage(Sort sort) {
+        return new PageImpl<>(content, PageRequest.of(page, size, sort), totalElements);
+    }
+}
@@ -0,0 +1,19 @@
+package com.miniproject.todolist.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Number of matching todos carrying a tag")
+public class TagFacet {
+
+    @Schema(description = "Normalized tag", example = "urgent")
+    private String tag;
+
+    @Schema(description = "Matching todos with this tag", example = "42")
+    private long count;
+}
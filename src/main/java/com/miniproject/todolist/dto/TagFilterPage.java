@@ -0,0 +1,31 @@
+package com.miniproject.todolist.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Slice of todos matching a tag filter, with tag counts")
+public class TagFilterPage {
+
+    @Schema(description = "Items in this slice, newest first")
+    private List<TodoResponse> content;
+
+    @Schema(description = "Opaque cursor to pass as 'after' to fetch the next slice, null on the last slice",
+            example = "MjAyNS0xMS0yNlQxMDowMDp8NDI")
+    private String nextCursor;
+
+    @Schema(description = "Whether another slice is available", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "Number of items in this slice", example = "20")
+    private int size;
+
+    @Schema(description = "Most common tags across all matching todos; only present on the first slice")
+    private List<TagFacet> facets;
+}
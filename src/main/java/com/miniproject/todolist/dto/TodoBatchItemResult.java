@@ -0,0 +1,32 @@
+package com.miniproject.todolist.dto;
+
+import com.miniproject.todolist.enums.BatchOperationType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of a single batch operation")
+public class TodoBatchItemResult {
+
+    @Schema(description = "Position of the operation in the request", example = "0")
+    private int index;
+
+    @Schema(description = "Kind of operation", example = "CREATE")
+    private BatchOperationType type;
+
+    @Schema(description = "HTTP-style status of the operation", example = "201")
+    private int status;
+
+    @Schema(description = "ID of the affected todo", example = "1")
+    private Long id;
+
+    @Schema(description = "Resulting todo for CREATE and UPDATE")
+    private TodoResponse todo;
+
+    @Schema(description = "Error message when the operation failed", example = "Todo not found with id: 42")
+    private String error;
+}
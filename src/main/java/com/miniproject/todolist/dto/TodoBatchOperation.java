@@ -0,0 +1,30 @@
+package com.miniproject.todolist.dto;
+
+import com.miniproject.todolist.enums.BatchOperationType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Single create, update or delete operation inside a batch")
+public class TodoBatchOperation {
+
+    @NotNull(message = "Operation type is required")
+    @Schema(description = "Kind of operation", example = "CREATE", allowableValues = {"CREATE", "UPDATE", "DELETE"}, required = true)
+    private BatchOperationType type;
+
+    @Schema(description = "ID of the todo to update or delete; ignored for CREATE", example = "1")
+    private Long id;
+
+    @Valid
+    @Schema(description = "Todo to create; required for CREATE")
+    private TodoCreateRequest create;
+
+    @Schema(description = "Fields to change; required for UPDATE")
+    private TodoUpdateRequest update;
+}
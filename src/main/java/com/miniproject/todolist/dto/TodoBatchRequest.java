@@ -0,0 +1,23 @@
+package com.miniproject.todolist.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Ordered list of operations executed in a single transaction")
+public class TodoBatchRequest {
+
+    @NotEmpty(message = "At least one operation is required")
+    @Size(max = 500, message = "A batch may contain at most 500 operations")
+    @Schema(description = "Operations, applied in order", required = true)
+    private List<@Valid TodoBatchOperation> operations;
+}
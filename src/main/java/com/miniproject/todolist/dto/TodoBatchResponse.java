@@ -0,0 +1,24 @@
+package com.miniproject.todolist.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Per-operation results of a batch, in request order")
+public class TodoBatchResponse {
+
+    @Schema(description = "Result of each operation")
+    private List<TodoBatchItemResult> results;
+
+    @Schema(description = "Number of operations that succeeded", example = "9")
+    private int succeeded;
+
+    @Schema(description = "Number of operations that failed", example = "1")
+    private int failed;
+}
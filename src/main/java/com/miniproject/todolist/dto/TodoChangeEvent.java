@@ -0,0 +1,31 @@
+package com.miniproject.todolist.dto;
+
+import com.miniproject.todolist.enums.TodoChangeType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A change to a todo, as sent on the change stream")
+public class TodoChangeEvent {
+
+    @Schema(description = "Position in the change log, also the SSE event id", example = "4711")
+    private Long eventId;
+
+    @Schema(description = "Kind of change", example = "UPDATED")
+    private TodoChangeType type;
+
+    @Schema(description = "ID of the changed todo; absent for RESET", example = "1")
+    private Long todoId;
+
+    @Schema(description = "Version of the todo after the change (before it, for DELETED)", example = "3")
+    private Long version;
+
+    @Schema(description = "Timestamp of the change", example = "2025-11-26T10:00:00")
+    private LocalDateTime changedAt;
+}
@@ -3,6 +3,7 @@ package com.miniproject.todolist.dto;
 import com.miniproject.todolist.enums.Priority;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -16,6 +17,7 @@ import java.time.LocalDateTime;
 public class TodoCreateRequest {
 
     @NotBlank(message = "Title is required")
+    @Size(max = 255, message = "Title must be at most 255 characters")
     @Schema(description = "Title of the todo item", example = "Complete project documentation", required = true)
     private String title;
 
@@ -31,6 +33,7 @@ public class TodoCreateRequest {
     @Schema(description = "Due date and time for the todo", example = "2025-12-31T23:59:59")
     private LocalDateTime dueDate;
 
+    @Size(max = 255, message = "Tags must be at most 255 characters")
     @Schema(description = "Comma-separated tags for categorization", example = "work,urgent,project")
     private String tags;
 }
\ No newline at end of file
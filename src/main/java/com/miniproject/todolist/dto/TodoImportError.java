@@ -0,0 +1,19 @@
+package com.miniproject.todolist.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Input line rejected during an import")
+public class TodoImportError {
+
+    @Schema(description = "1-based line number where the rejected record starts", example = "42")
+    private long line;
+
+    @Schema(description = "Why the record was rejected", example = "title: Title is required")
+    private String message;
+}
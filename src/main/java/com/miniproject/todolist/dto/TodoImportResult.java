@@ -0,0 +1,30 @@
+package com.miniproject.todolist.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Summary of a bulk import")
+public class TodoImportResult {
+
+    @Schema(description = "Number of records read from the input", example = "100000")
+    private long recordsRead;
+
+    @Schema(description = "Number of todos inserted", example = "99998")
+    private long imported;
+
+    @Schema(description = "Number of records rejected", example = "2")
+    private long rejected;
+
+    @Schema(description = "Rejected records, capped at the first 1000")
+    private List<TodoImportError> errors;
+
+    @Schema(description = "Import duration in milliseconds", example = "640")
+    private long durationMillis;
+}
@@ -0,0 +1,23 @@
+package com.miniproject.todolist.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "IDs of the todos to fetch in one request")
+public class TodoLookupRequest {
+
+    @NotEmpty(message = "At least one id is required")
+    @Size(max = 1000, message = "A lookup may contain at most 1000 ids")
+    @Schema(description = "Todo IDs; results come back in this order", example = "[1, 2, 3]", required = true)
+    private List<@NotNull Long> ids;
+}
@@ -0,0 +1,22 @@
+package com.miniproject.todolist.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of looking up one requested id")
+public class TodoLookupResult {
+
+    @Schema(description = "Requested ID", example = "1")
+    private Long id;
+
+    @Schema(description = "HTTP-style status: 200 if found, 404 if no todo has this id", example = "200")
+    private int status;
+
+    @Schema(description = "The todo, when found")
+    private TodoResponse todo;
+}
@@ -0,0 +1,59 @@
+package com.miniproject.todolist.dto;
+
+import com.miniproject.todolist.enums.Priority;
+import com.miniproject.todolist.enums.TodoSortKey;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Combined todo filter; every criterion is optional and they are ANDed together")
+public class TodoQuery {
+
+    @Schema(description = "Only todos with this completion status", example = "false")
+    private Boolean completed;
+
+    @Schema(description = "Only todos with one of these priorities; repeat the parameter for several", example = "HIGH")
+    private List<Priority> priority;
+
+    @Schema(description = "Due on or after this time", example = "2025-12-01T00:00:00")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueFrom;
+
+    @Schema(description = "Due before this time", example = "2025-12-31T00:00:00")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueBefore;
+
+    @Schema(description = "Created on or after this time", example = "2025-11-01T00:00:00")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    @Schema(description = "Created before this time", example = "2025-12-01T00:00:00")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdBefore;
+
+    @Schema(description = "Sort key", example = "DUE_DATE", defaultValue = "CREATED_AT")
+    private TodoSortKey sort = TodoSortKey.CREATED_AT;
+
+    @Schema(description = "Sort direction", example = "ASC", defaultValue = "DESC")
+    private Sort.Direction direction = Sort.Direction.DESC;
+
+    @Schema(description = "Page number (0-indexed)", example = "0")
+    @Min(value = 0, message = "Page must not be negative")
+    private int page = 0;
+
+    @Schema(description = "Number of items per page (1-100)", example = "20")
+    @Min(value = 1, message = "Size must be at least 1")
+    @Max(value = 100, message = "Size must be at most 100")
+    private int size = 20;
+}
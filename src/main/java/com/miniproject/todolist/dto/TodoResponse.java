@@ -40,4 +40,7 @@ public class TodoResponse {
 
     @Schema(description = "Timestamp when the todo was last updated", example = "2025-11-26T15:30:00")
     private LocalDateTime updatedAt;
+
+    @Schema(description = "Row version, incremented on every update; the ETag is derived from it", example = "3")
+    private Long version;
 }
\ No newline at end of file
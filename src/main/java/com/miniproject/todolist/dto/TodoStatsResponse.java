@@ -0,0 +1,31 @@
+package com.miniproject.todolist.dto;
+
+import com.miniproject.todolist.enums.Priority;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Todo counts by status and priority")
+public class TodoStatsResponse {
+
+    @Schema(description = "All todos", example = "1250")
+    private long total;
+
+    @Schema(description = "Completed todos", example = "900")
+    private long completed;
+
+    @Schema(description = "Open todos", example = "350")
+    private long open;
+
+    @Schema(description = "Open todos whose due date has passed", example = "12")
+    private long overdue;
+
+    @Schema(description = "All todos per priority")
+    private Map<Priority, Long> byPriority;
+}
@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
 public class Todo {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todos_id_seq")
+    @SequenceGenerator(name = "todos_id_seq", sequenceName = "todos_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -39,6 +40,10 @@ public class Todo {
 
     private String tags;
 
+    // Generated by the database from tags (see V5__add_normalized_tag_list.sql)
+    @Column(name = "tag_list", insertable = false, updatable = false)
+    private String[] tagList;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -46,4 +51,9 @@ public class Todo {
     @UpdateTimestamp
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
+
+    // Incremented on every update; also the basis of the HTTP ETag
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
\ No newline at end of file
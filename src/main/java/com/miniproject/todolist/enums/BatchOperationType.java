@@ -0,0 +1,7 @@
+package com.miniproject.todolist.enums;
+
+public enum BatchOperationType {
+    CREATE,
+    UPDATE,
+    DELETE
+}
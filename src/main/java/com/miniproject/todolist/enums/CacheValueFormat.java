@@ -0,0 +1,9 @@
+package com.miniproject.todolist.enums;
+
+/**
+ * Encoding of cached values in Redis, selectable per cache name.
+ */
+public enum CacheValueFormat {
+    JSON,
+    BINARY
+}
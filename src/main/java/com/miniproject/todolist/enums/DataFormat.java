@@ -0,0 +1,34 @@
+package com.miniproject.todolist.enums;
+
+import com.miniproject.todolist.exception.UnsupportedDataFormatException;
+
+import java.util.Locale;
+
+public enum DataFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    DataFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static DataFormat fromParameter(String value) {
+        try {
+            return DataFormat.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new UnsupportedDataFormatException(value);
+        }
+    }
+}
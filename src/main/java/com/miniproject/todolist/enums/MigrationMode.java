@@ -0,0 +1,14 @@
+package com.miniproject.todolist.enums;
+
+/**
+ * When an instance runs the Flyway migrations at startup.
+ */
+public enum MigrationMode {
+    // Every instance migrates, Flyway's lock serialising them
+    ALWAYS,
+    // One instance, elected with a PostgreSQL advisory lock, runs Flyway; the others wait for it
+    // and skip Flyway, as do instances that find no bundled migration pending
+    LEADER,
+    // Never; the schema is migrated elsewhere
+    SKIP
+}
@@ -0,0 +1,6 @@
+package com.miniproject.todolist.enums;
+
+public enum TagMatch {
+    ANY,
+    ALL
+}
@@ -0,0 +1,12 @@
+package com.miniproject.todolist.enums;
+
+/**
+ * Kind of event on the todo change stream. RESET stands in for more changes than the
+ * stream replays one by one; clients should reload what they display.
+ */
+public enum TodoChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    RESET
+}
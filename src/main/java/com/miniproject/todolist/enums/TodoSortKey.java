@@ -0,0 +1,16 @@
+package com.miniproject.todolist.enums;
+
+public enum TodoSortKey {
+    CREATED_AT("createdAt"),
+    DUE_DATE("dueDate");
+
+    private final String property;
+
+    TodoSortKey(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+}
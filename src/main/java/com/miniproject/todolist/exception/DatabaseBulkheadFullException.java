@@ -0,0 +1,18 @@
+package com.miniproject.todolist.exception;
+
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+public class DatabaseBulkheadFullException extends SQLTransientConnectionException {
+
+    private final Duration retryAfter;
+
+    public DatabaseBulkheadFullException(int maxConcurrent, Duration retryAfter) {
+        super("Database is busy: all " + maxConcurrent + " connection slots are in use");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,8 @@
+package com.miniproject.todolist.exception;
+
+public class TodoImportException extends RuntimeException {
+
+    public TodoImportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,8 @@
+package com.miniproject.todolist.exception;
+
+public class TodoLookupTooLargeException extends RuntimeException {
+
+    public TodoLookupTooLargeException(int requested, int max) {
+        super("A lookup may contain at most " + max + " ids, got " + requested);
+    }
+}
@@ -0,0 +1,8 @@
+package com.miniproject.todolist.exception;
+
+public class TodoVersionMismatchException extends RuntimeException {
+
+    public TodoVersionMismatchException(Long id) {
+        super("Todo with id " + id + " has changed since the version given in If-Match");
+    }
+}
@@ -0,0 +1,8 @@
+package com.miniproject.todolist.exception;
+
+public class UnsupportedDataFormatException extends RuntimeException {
+
+    public UnsupportedDataFormatException(String format) {
+        super("Unsupported data format: " + format + " (expected ndjson or csv)");
+    }
+}
@@ -0,0 +1,102 @@
+package com.miniproject.todolist.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.miniproject.todolist.dto.TodoResponse;
+import com.miniproject.todolist.enums.DataFormat;
+import com.miniproject.todolist.service.TodoService;
+import com.miniproject.todolist.util.Csv;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes todos to an output stream row by row as they are read from the database cursor.
+ */
+@Component
+public class TodoExportWriter {
+
+    static final String CSV_HEADER = "id,title,description,completed,priority,dueDate,tags,createdAt,updatedAt";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final TodoService todoService;
+    // Lines are separated by hand, so no root value separator, and the buffer is flushed once at the end
+    private final ObjectWriter ndjsonWriter;
+
+    public TodoExportWriter(TodoService todoService, Jackson2ObjectMapperBuilder jacksonBuilder) {
+        this.todoService = todoService;
+        this.ndjsonWriter = jacksonBuilder.build().writer()
+                .withRootValueSeparator("")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public void write(DataFormat format, Boolean completed, OutputStream outputStream) throws IOException {
+        try {
+            if (format == DataFormat.CSV) {
+                writeCsv(completed, outputStream);
+            } else {
+                writeNdjson(completed, outputStream);
+            }
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private void writeNdjson(Boolean completed, OutputStream outputStream) throws IOException {
+        JsonGenerator generator = ndjsonWriter.createGenerator(outputStream);
+        generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+        todoService.exportTodos(completed, todo -> {
+            try {
+                ndjsonWriter.writeValue(generator, todo);
+                generator.writeRaw('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        generator.close();
+    }
+
+    private void writeCsv(Boolean completed, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        todoService.exportTodos(completed, todo -> {
+            try {
+                writer.write(toCsvRow(todo));
+                writer.write('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        writer.flush();
+    }
+
+    static String toCsvRow(TodoResponse todo) {
+        return String.join(",",
+                String.valueOf(todo.getId()),
+                Csv.escape(todo.getTitle()),
+                Csv.escape(todo.getDescription()),
+                String.valueOf(todo.getCompleted()),
+                todo.getPriority() != null ? todo.getPriority().name() : "",
+                timestamp(todo.getDueDate()),
+                Csv.escape(todo.getTags()),
+                timestamp(todo.getCreatedAt()),
+                timestamp(todo.getUpdatedAt()));
+    }
+
+    // Same form as the NDJSON export: LocalDateTime.toString drops ":00" seconds
+    private static String timestamp(LocalDateTime value) {
+        return value != null ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value) : "";
+    }
+}
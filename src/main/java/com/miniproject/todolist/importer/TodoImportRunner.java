@@ -0,0 +1,73 @@
+package com.miniproject.todolist.importer;
+
+import com.miniproject.todolist.dto.TodoImportResult;
+import com.miniproject.todolist.enums.DataFormat;
+import com.miniproject.todolist.service.TodoImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Imports a file at startup when {@code todolist.import.file} is set, e.g.
+ * {@code java -jar todolist.jar --todolist.import.file=todos.ndjson}.
+ * <p>
+ * The format comes from {@code todolist.import.format} or the file extension. Unless
+ * {@code todolist.import.exit=false}, the application shuts down once the import is done.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "todolist.import.file")
+public class TodoImportRunner implements ApplicationRunner {
+
+    private final TodoImportService todoImportService;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${todolist.import.file}")
+    private Path file;
+
+    @Value("${todolist.import.format:}")
+    private String format;
+
+    @Value("${todolist.import.exit:true}")
+    private boolean exitWhenDone;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        DataFormat dataFormat = DataFormat.fromParameter(format.isBlank() ? extensionOf(file) : format);
+        log.info("Importing {} as {}", file, dataFormat);
+
+        int exitCode = 0;
+        try (InputStream input = Files.newInputStream(file)) {
+            TodoImportResult result = todoImportService.importTodos(input, dataFormat);
+            result.getErrors().forEach(error -> log.warn("Line {}: {}", error.getLine(), error.getMessage()));
+            if (result.getRejected() > result.getErrors().size()) {
+                log.warn("{} further rejected records not listed", result.getRejected() - result.getErrors().size());
+            }
+        } catch (RuntimeException ex) {
+            log.error("Import of {} failed", file, ex);
+            exitCode = 1;
+        }
+
+        if (exitWhenDone) {
+            int code = exitCode;
+            System.exit(SpringApplication.exit(context, () -> code));
+        }
+    }
+
+    private static String extensionOf(Path path) {
+        String name = path.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot < 0 ? "" : name.substring(dot + 1);
+    }
+}
@@ -0,0 +1,76 @@
+package com.miniproject.todolist.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * Records how many SQL statements each request ran, per route, and warns when a request
+ * exceeds the N+1 threshold. Every request is also offered to the {@link SlowRequestRecorder}.
+ * Request latency itself is Spring's http.server.requests timer.
+ */
+@Slf4j
+@Component
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final SlowRequestRecorder slowRequests;
+    private final int statementThreshold;
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry,
+                                SlowRequestRecorder slowRequests,
+                                @Value("${todolist.observability.n-plus-one-threshold:10}") int statementThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowRequests = slowRequests;
+        this.statementThreshold = statementThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        StatementCountingInspector.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int statements = StatementCountingInspector.end();
+            long durationMillis = (System.nanoTime() - start) / 1_000_000;
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+
+            DistributionSummary.builder("todolist.db.statements")
+                    .description("SQL statements Hibernate prepared per request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .serviceLevelObjectives(1, 2, 5, 10, 20, 50)
+                    .register(meterRegistry)
+                    .record(statements);
+            if (statements > statementThreshold) {
+                Counter.builder("todolist.db.statements.excessive")
+                        .description("Requests that ran more statements than the N+1 threshold")
+                        .tag("method", request.getMethod())
+                        .tag("uri", uri)
+                        .register(meterRegistry)
+                        .increment();
+                log.warn("{} {} ran {} SQL statements (threshold {}), likely N+1 queries",
+                        request.getMethod(), uri, statements, statementThreshold);
+            }
+            slowRequests.record(new SlowRequest(Instant.now(), request.getMethod(), uri, request.getRequestURI(),
+                    response.getStatus(), durationMillis, statements));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.miniproject.todolist.monitoring;
+
+import java.time.Instant;
+
+/**
+ * One request kept by {@link SlowRequestRecorder}; {@code uri} is the matched route pattern.
+ */
+public record SlowRequest(Instant finishedAt,
+                          String method,
+                          String uri,
+                          String path,
+                          int status,
+                          long durationMillis,
+                          int statements) {
+}
@@ -0,0 +1,53 @@
+package com.miniproject.todolist.monitoring;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Remembers recent requests that took at least {@code min-duration}, at most
+ * {@code capacity} of them, dropping the oldest first. Faster requests cost one comparison.
+ */
+@Component
+public class SlowRequestRecorder {
+
+    private final Deque<SlowRequest> recent = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final long minDurationMillis;
+    private final int capacity;
+
+    public SlowRequestRecorder(@Value("${todolist.observability.slow-requests.min-duration:100ms}") Duration minDuration,
+                               @Value("${todolist.observability.slow-requests.capacity:500}") int capacity) {
+        this.minDurationMillis = minDuration.toMillis();
+        this.capacity = capacity;
+    }
+
+    public void record(SlowRequest request) {
+        if (request.durationMillis() < minDurationMillis) {
+            return;
+        }
+        recent.addLast(request);
+        if (size.incrementAndGet() > capacity && recent.pollFirst() != null) {
+            size.decrementAndGet();
+        }
+    }
+
+    /**
+     * The slowest requests that finished within {@code window}, slowest first.
+     */
+    public List<SlowRequest> slowest(Duration window, int limit) {
+        Instant since = Instant.now().minus(window);
+        return recent.stream()
+                .filter(request -> request.finishedAt().isAfter(since))
+                .sorted(Comparator.comparingLong(SlowRequest::durationMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+}
@@ -0,0 +1,34 @@
+package com.miniproject.todolist.monitoring;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.OptionalParameter;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * {@code GET /actuator/slowrequests?windowSeconds=300&limit=20}: the slowest requests of
+ * the recent past on this instance, with the SQL statement count of each.
+ */
+@Component
+@Endpoint(id = "slowrequests")
+public class SlowRequestsEndpoint {
+
+    private static final long DEFAULT_WINDOW_SECONDS = 300;
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final SlowRequestRecorder recorder;
+
+    public SlowRequestsEndpoint(SlowRequestRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @ReadOperation
+    public List<SlowRequest> slowRequests(@OptionalParameter Long windowSeconds, @OptionalParameter Integer limit) {
+        return recorder.slowest(
+                Duration.ofSeconds(windowSeconds != null ? windowSeconds : DEFAULT_WINDOW_SECONDS),
+                limit != null ? limit : DEFAULT_LIMIT);
+    }
+}
@@ -0,0 +1,84 @@
+package com.miniproject.todolist.repository;
+
+import com.miniproject.todolist.dto.TodoChangeEvent;
+import com.miniproject.todolist.enums.TodoChangeType;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reads the todo_changes log written by the triggers in V9__add_todo_change_feed.sql.
+ */
+@Repository
+public class TodoChangeRepository {
+
+    private static final String SELECT_EVENTS =
+            "SELECT event_id, change_type, todo_id, version, changed_at FROM todo_changes ";
+
+    private static final RowMapper<TodoChangeEvent> EVENT_MAPPER = (rs, rowNum) -> new TodoChangeEvent(
+            rs.getLong("event_id"),
+            TodoChangeType.valueOf(rs.getString("change_type")),
+            rs.getLong("todo_id"),
+            rs.getObject("version", Long.class),
+            rs.getObject("changed_at", LocalDateTime.class));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public TodoChangeRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<TodoChangeEvent> findBetween(long firstEventId, long lastEventId) {
+        return jdbcTemplate.query(SELECT_EVENTS + "WHERE event_id BETWEEN :first AND :last ORDER BY event_id",
+                new MapSqlParameterSource("first", firstEventId).addValue("last", lastEventId),
+                EVENT_MAPPER);
+    }
+
+    // Reads one row past the limit so callers can tell "exactly limit" from "more than limit"
+    public List<TodoChangeEvent> findAfter(long eventId, int limit) {
+        return jdbcTemplate.query(SELECT_EVENTS + "WHERE event_id > :eventId ORDER BY event_id LIMIT :limit",
+                new MapSqlParameterSource("eventId", eventId).addValue("limit", limit + 1),
+                EVENT_MAPPER);
+    }
+
+    /**
+     * Events below {@code eventId} from writes that started at most {@code overlap} before the
+     * one that logged it. Ids are taken when a row is written but become visible on commit, so
+     * a slower transaction can commit an id below one a reader has already seen; changed_at is
+     * the transaction's start, so this covers every write that takes less than the overlap.
+     * Reads one row past the limit like {@link #findAfter}.
+     */
+    public List<TodoChangeEvent> findCommittedLate(long eventId, Duration overlap, int limit) {
+        return jdbcTemplate.query(SELECT_EVENTS +
+                        "WHERE event_id < :eventId AND changed_at >= " +
+                        "(SELECT changed_at FROM todo_changes WHERE event_id = :eventId) - :overlapMillis * INTERVAL '1 millisecond' " +
+                        "ORDER BY event_id LIMIT :limit",
+                new MapSqlParameterSource("eventId", eventId)
+                        .addValue("overlapMillis", overlap.toMillis())
+                        .addValue("limit", limit + 1),
+                EVENT_MAPPER);
+    }
+
+    public long findLatestEventId() {
+        Long latest = jdbcTemplate.getJdbcTemplate()
+                .queryForObject("SELECT coalesce(max(event_id), 0) FROM todo_changes", Long.class);
+        return latest != null ? latest : 0L;
+    }
+
+    // An empty log vouches for nothing, so it counts as starting after every id
+    public long findOldestEventId() {
+        Long oldest = jdbcTemplate.getJdbcTemplate()
+                .queryForObject("SELECT min(event_id) FROM todo_changes", Long.class);
+        return oldest != null ? oldest : Long.MAX_VALUE;
+    }
+
+    public int deleteOlderThan(LocalDateTime cutoff) {
+        return jdbcTemplate.update("DELETE FROM todo_changes WHERE changed_at < :cutoff",
+                new MapSqlParameterSource("cutoff", cutoff));
+    }
+}
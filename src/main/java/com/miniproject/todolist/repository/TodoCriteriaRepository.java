@@ -0,0 +1,20 @@
+package com.miniproject.todolist.repository;
+
+import com.miniproject.todolist.dto.TodoResponse;
+import com.miniproject.todolist.entity.Todo;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Specification queries that select straight into {@link TodoResponse}, like the
+ * {@code @Query} read paths on {@link TodoRepository}.
+ */
+public interface TodoCriteriaRepository {
+
+    /**
+     * Same rows as {@code findAll(spec, pageable)}, without loading entities. The count query
+     * is skipped when the page shows it is not needed.
+     */
+    Page<TodoResponse> findResponses(Specification<Todo> spec, Pageable pageable);
+}
@@ -0,0 +1,56 @@
+package com.miniproject.todolist.repository;
+
+import com.miniproject.todolist.dto.TodoResponse;
+import com.miniproject.todolist.entity.Todo;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+/**
+ * Criteria constructor selects: Hibernate reads the columns into {@link TodoResponse}
+ * directly, so no entities, snapshots or dirty checks are involved.
+ */
+public class TodoCriteriaRepositoryImpl implements TodoCriteriaRepository {
+
+    private final EntityManager entityManager;
+
+    public TodoCriteriaRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Page<TodoResponse> findResponses(Specification<Todo> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TodoResponse> query = cb.createQuery(TodoResponse.class);
+        Root<Todo> root = query.from(Todo.class);
+        query.select(cb.construct(TodoResponse.class,
+                root.get("id"), root.get("title"), root.get("description"), root.get("completed"),
+                root.get("priority"), root.get("dueDate"), root.get("tags"), root.get("createdAt"),
+                root.get("updatedAt"), root.get("version")));
+        query.where(spec.toPredicate(root, query, cb));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<TodoResponse> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> count(spec));
+    }
+
+    private long count(Specification<Todo> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Todo> root = query.from(Todo.class);
+        query.select(cb.count(root));
+        query.where(spec.toPredicate(root, query, cb));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
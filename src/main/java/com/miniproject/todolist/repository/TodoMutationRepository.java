@@ -0,0 +1,27 @@
+package com.miniproject.todolist.repository;
+
+import com.miniproject.todolist.dto.TodoResponse;
+import com.miniproject.todolist.dto.TodoUpdateRequest;
+
+import java.util.Optional;
+
+/**
+ * Single-statement writes for the update and delete endpoints. Each call is one round trip;
+ * an empty result means no row had that id (and version, when one is given).
+ */
+public interface TodoMutationRepository {
+
+    /**
+     * Applies the non-null fields of the request, bumps the version and updatedAt and
+     * returns the new row. A request without fields only bumps the version and updatedAt.
+     *
+     * @param expectedVersion only update if the row still has this version; null to skip the check
+     */
+    Optional<TodoResponse> updateReturning(Long id, TodoUpdateRequest request, Long expectedVersion);
+
+    /**
+     * @param expectedVersion only delete if the row still has this version; null to skip the check
+     * @return whether a row was deleted
+     */
+    boolean deleteReturningId(Long id, Long expectedVersion);
+}
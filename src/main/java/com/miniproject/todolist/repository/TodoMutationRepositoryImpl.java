@@ -0,0 +1,97 @@
+package com.miniproject.todolist.repository;
+
+import com.miniproject.todolist.dto.TodoResponse;
+import com.miniproject.todolist.dto.TodoUpdateRequest;
+import com.miniproject.todolist.enums.Priority;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Plain JDBC on the transaction's connection: {@code UPDATE ... RETURNING} sets only the
+ * provided columns and hands back the new row, {@code DELETE ... RETURNING id} reports
+ * whether a row went away. Neither loads an entity first, so there is no Hibernate
+ * snapshot, full-row UPDATE or re-read. The tag_list column and the todo_stats triggers
+ * are maintained by the database as for any other write.
+ */
+public class TodoMutationRepositoryImpl implements TodoMutationRepository {
+
+    static final String RETURNING_COLUMNS =
+            " RETURNING id, title, description, completed, priority, due_date, tags, created_at, updated_at, version";
+
+    private static final RowMapper<TodoResponse> TODO_RESPONSE_MAPPER = (rs, rowNum) -> new TodoResponse(
+            rs.getLong("id"),
+            rs.getString("title"),
+            rs.getString("description"),
+            rs.getBoolean("completed"),
+            Priority.valueOf(rs.getString("priority")),
+            rs.getObject("due_date", LocalDateTime.class),
+            rs.getString("tags"),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getObject("updated_at", LocalDateTime.class),
+            rs.getLong("version"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public TodoMutationRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<TodoResponse> updateReturning(Long id, TodoUpdateRequest request, Long expectedVersion) {
+        MapSqlParameterSource params = new MapSqlParameterSource("id", id);
+        StringBuilder sql = new StringBuilder("UPDATE todos SET ");
+        if (request.getTitle() != null) {
+            sql.append("title = :title, ");
+            params.addValue("title", request.getTitle());
+        }
+        if (request.getDescription() != null) {
+            sql.append("description = :description, ");
+            params.addValue("description", request.getDescription());
+        }
+        if (request.getCompleted() != null) {
+            sql.append("completed = :completed, ");
+            params.addValue("completed", request.getCompleted());
+        }
+        if (request.getPriority() != null) {
+            sql.append("priority = :priority, ");
+            params.addValue("priority", request.getPriority().name());
+        }
+        if (request.getDueDate() != null) {
+            sql.append("due_date = :dueDate, ");
+            params.addValue("dueDate", request.getDueDate());
+        }
+        if (request.getTags() != null) {
+            sql.append("tags = :tags, ");
+            params.addValue("tags", request.getTags());
+        }
+        // Same JVM-clock timestamp @UpdateTimestamp would have written
+        sql.append("updated_at = :updatedAt, version = version + 1 WHERE id = :id");
+        params.addValue("updatedAt", LocalDateTime.now());
+        appendVersionCheck(sql, params, expectedVersion);
+        sql.append(RETURNING_COLUMNS);
+
+        List<TodoResponse> rows = jdbcTemplate.query(sql.toString(), params, TODO_RESPONSE_MAPPER);
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    public boolean deleteReturningId(Long id, Long expectedVersion) {
+        MapSqlParameterSource params = new MapSqlParameterSource("id", id);
+        StringBuilder sql = new StringBuilder("DELETE FROM todos WHERE id = :id");
+        appendVersionCheck(sql, params, expectedVersion);
+        sql.append(" RETURNING id");
+        return !jdbcTemplate.queryForList(sql.toString(), params, Long.class).isEmpty();
+    }
+
+    private static void appendVersionCheck(StringBuilder sql, MapSqlParameterSource params, Long expectedVersion) {
+        if (expectedVersion != null) {
+            sql.append(" AND version = :version");
+            params.addValue("version", expectedVersion);
+        }
+    }
+}
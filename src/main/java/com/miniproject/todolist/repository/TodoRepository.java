@@ -1,15 +1,173 @@
 package com.miniproject.todolist.repository;
 
+import com.miniproject.todolist.dto.TodoResponse;
 import com.miniproject.todolist.entity.Todo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
-public interface TodoRepository extends JpaRepository<Todo, Long> {
+public interface TodoRepository extends JpaRepository<Todo, Long>, JpaSpecificationExecutor<Todo>,
+        TodoMutationRepository, TodoCriteriaRepository {
+
+    // Read paths select straight into TodoResponse, so no managed entities, snapshots or
+    // dirty checks are involved. Entities are loaded only where a write follows.
+
+    String SELECT_RESPONSE = "select new com.miniproject.todolist.dto.TodoResponse(" +
+            "t.id, t.title, t.description, t.completed, t.priority, t.dueDate, t.tags, t.createdAt, t.updatedAt, t.version) " +
+            "from Todo t ";
+
+    @Query(SELECT_RESPONSE + "where t.id = :id")
+    Optional<TodoResponse> findResponseById(@Param("id") Long id);
+
+    // One IN query for the ids a multi-get could not find in the cache
+    @Query(SELECT_RESPONSE + "where t.id in :ids")
+    List<TodoResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(value = SELECT_RESPONSE,
+            countQuery = "select count(t) from Todo t")
+    Page<TodoResponse> findAllResponses(Pageable pageable);
+
+    @Query(value = SELECT_RESPONSE + "where t.completed = :completed",
+            countQuery = "select count(t) from Todo t where t.completed = :completed")
+    Page<TodoResponse> findResponsesByCompleted(@Param("completed") Boolean completed, Pageable pageable);
+
+    // Substring search served by the idx_todos_title_trgm GIN index; callers escape
+    // LIKE wildcards in the query with '!'.
+
+    @Query(value = SELECT_RESPONSE + "where t.title ilike concat('%', :query, '%') escape '!' " +
+            "order by t.createdAt desc",
+            countQuery = "select count(t) from Todo t where t.title ilike concat('%', :query, '%') escape '!'")
+    Page<TodoResponse> searchByTitle(@Param("query") String query, Pageable pageable);
+
+    // Keyset pagination: the redundant "createdAt <= :createdAt" lets Postgres seek
+    // into idx_todos_created_at_id instead of filtering every newer row.
+
+    @Query(SELECT_RESPONSE + "order by t.createdAt desc, t.id desc")
+    List<TodoResponse> findFirstSlice(Pageable pageable);
+
+    @Query(SELECT_RESPONSE +
+            "where t.createdAt <= :createdAt and (t.createdAt < :createdAt or t.id < :id) " +
+            "order by t.createdAt desc, t.id desc")
+    List<TodoResponse> findSliceAfter(@Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") Long id,
+                                      Pageable pageable);
+
+    @Query(SELECT_RESPONSE + "where t.completed = :completed order by t.createdAt desc, t.id desc")
+    List<TodoResponse> findFirstSliceByCompleted(@Param("completed") Boolean completed, Pageable pageable);
+
+    @Query(SELECT_RESPONSE +
+            "where t.completed = :completed " +
+            "and t.createdAt <= :createdAt and (t.createdAt < :createdAt or t.id < :id) " +
+            "order by t.createdAt desc, t.id desc")
+    List<TodoResponse> findSliceByCompletedAfter(@Param("completed") Boolean completed,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
+
+    @Query(SELECT_RESPONSE + "where t.title ilike concat('%', :query, '%') escape '!' " +
+            "order by t.createdAt desc, t.id desc")
+    List<TodoResponse> findFirstSliceByTitle(@Param("query") String query, Pageable pageable);
+
+    @Query(SELECT_RESPONSE + "where t.title ilike concat('%', :query, '%') escape '!' " +
+            "and t.createdAt <= :createdAt and (t.createdAt < :createdAt or t.id < :id) " +
+            "order by t.createdAt desc, t.id desc")
+    List<TodoResponse> findSliceByTitleAfter(@Param("query") String query,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
+
+    // Tag filters run on the generated tag_list column through idx_todos_tag_list:
+    // array_intersects renders as && (any of) and array_includes as @> (all of).
+
+    @Query(SELECT_RESPONSE + "where array_intersects(t.tagList, :tags) order by t.createdAt desc, t.id desc")
+    List<TodoResponse> findFirstSliceByAnyTag(@Param("tags") String[] tags, Pageable pageable);
+
+    @Query(SELECT_RESPONSE + "where array_intersects(t.tagList, :tags) " +
+            "and t.createdAt <= :createdAt and (t.createdAt < :createdAt or t.id < :id) " +
+            "order by t.createdAt desc, t.id desc")
+    List<TodoResponse> findSliceByAnyTagAfter(@Param("tags") String[] tags,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
+
+    @Query(SELECT_RESPONSE + "where array_includes(t.tagList, :tags) order by t.createdAt desc, t.id desc")
+    List<TodoResponse> findFirstSliceByAllTags(@Param("tags") String[] tags, Pageable pageable);
+
+    @Query(SELECT_RESPONSE + "where array_includes(t.tagList, :tags) " +
+            "and t.createdAt <= :createdAt and (t.createdAt < :createdAt or t.id < :id) " +
+            "order by t.createdAt desc, t.id desc")
+    List<TodoResponse> findSliceByAllTagsAfter(@Param("tags") String[] tags,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
+
+    // Facets: [tag, count] rows over the whole match set; tags is a text[] literal such as {"a","b"}
+
+    @Query(value = "SELECT tag, count(*) FROM todos, unnest(tag_list) AS tag " +
+            "WHERE tag_list && cast(:tags AS text[]) " +
+            "GROUP BY tag ORDER BY count(*) DESC, tag LIMIT :limit",
+            nativeQuery = true)
+    List<Object[]> countTagsMatchingAny(@Param("tags") String tags, @Param("limit") int limit);
+
+    @Query(value = "SELECT tag, count(*) FROM todos, unnest(tag_list) AS tag " +
+            "WHERE tag_list @> cast(:tags AS text[]) " +
+            "GROUP BY tag ORDER BY count(*) DESC, tag LIMIT :limit",
+            nativeQuery = true)
+    List<Object[]> countTagsMatchingAll(@Param("tags") String tags, @Param("limit") int limit);
+
+    // Stats: todo_stats holds per-(completed, priority) counters spread over slots and kept
+    // current by the todos_stats_* triggers (V7). Overdue depends on the clock, so it is
+    // counted from the idx_todos_open_due_date partial index instead.
+
+    @Query(value = "SELECT completed, priority, sum(todo_count) FROM todo_stats GROUP BY completed, priority",
+            nativeQuery = true)
+    List<Object[]> sumStats();
+
+    @Query("select count(t) from Todo t where t.completed = false and t.dueDate < :now")
+    long countOverdue(@Param("now") LocalDateTime now);
+
+    @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext('todo_stats_reconcile'))", nativeQuery = true)
+    boolean tryLockStatsReconciliation();
+
+    // Waits for in-flight writers and holds off new ones until the rebuild commits
+    @Modifying
+    @Query(value = "LOCK TABLE todo_stats IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockStats();
+
+    @Modifying
+    @Query(value = "DELETE FROM todo_stats", nativeQuery = true)
+    int clearStats();
+
+    @Modifying
+    @Query(value = "INSERT INTO todo_stats (completed, priority, slot, todo_count) " +
+            "SELECT completed, priority, 0, count(*) FROM todos GROUP BY completed, priority",
+            nativeQuery = true)
+    int rebuildStats();
+
+    // Export streams: rows are read through a server-side cursor in fetch-size chunks and
+    // projected straight into DTOs, so nothing accumulates in the persistence context.
+    // Callers must consume them inside a transaction and close them.
 
-    Page<Todo> findByCompleted(Boolean completed, Pageable pageable);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(SELECT_RESPONSE + "order by t.id")
+    Stream<TodoResponse> streamAllForExport();
 
-    Page<Todo> findByTitleContainingIgnoreCase(String title, Pageable pageable);
-}
\ No newline at end of file
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(SELECT_RESPONSE + "where t.completed = :completed order by t.id")
+    Stream<TodoResponse> streamByCompletedForExport(@Param("completed") Boolean completed);
+}
@@ -0,0 +1,45 @@
+package com.miniproject.todolist.repository;
+
+import com.miniproject.todolist.dto.TodoQuery;
+import com.miniproject.todolist.entity.Todo;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria for {@link TodoQuery}. The completion flag is rendered as a literal rather
+ * than a bind parameter so Postgres can match the "WHERE completed = false" partial
+ * indexes from V6 even with generic prepared-statement plans.
+ */
+public final class TodoSpecifications {
+
+    private TodoSpecifications() {
+    }
+
+    public static Specification<Todo> matching(TodoQuery filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.getCompleted() != null) {
+                predicates.add(filter.getCompleted() ? cb.isTrue(root.get("completed")) : cb.isFalse(root.get("completed")));
+            }
+            if (filter.getPriority() != null && !filter.getPriority().isEmpty()) {
+                predicates.add(root.get("priority").in(filter.getPriority()));
+            }
+            if (filter.getDueFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("dueDate"), filter.getDueFrom()));
+            }
+            if (filter.getDueBefore() != null) {
+                predicates.add(cb.lessThan(root.get("dueDate"), filter.getDueBefore()));
+            }
+            if (filter.getCreatedFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), filter.getCreatedFrom()));
+            }
+            if (filter.getCreatedBefore() != null) {
+                predicates.add(cb.lessThan(root.get("createdAt"), filter.getCreatedBefore()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
@@ -0,0 +1,11 @@
+package com.miniproject.todolist.service;
+
+import com.miniproject.todolist.dto.TodoImportResult;
+import com.miniproject.todolist.enums.DataFormat;
+
+import java.io.InputStream;
+
+public interface TodoImportService {
+
+    TodoImportResult importTodos(InputStream input, DataFormat format);
+}
@@ -1,23 +1,67 @@
 package com.miniproject.todolist.service;
 
+import com.miniproject.todolist.dto.CursorPage;
+import com.miniproject.todolist.dto.TagFilterPage;
+import com.miniproject.todolist.dto.TodoBatchRequest;
+import com.miniproject.todolist.dto.TodoBatchResponse;
 import com.miniproject.todolist.dto.TodoCreateRequest;
+import com.miniproject.todolist.dto.TodoLookupResult;
+import com.miniproject.todolist.dto.TodoQuery;
 import com.miniproject.todolist.dto.TodoResponse;
 import com.miniproject.todolist.dto.TodoUpdateRequest;
+import com.miniproject.todolist.enums.TagMatch;
 import org.springframework.data.domain.Page;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 public interface TodoService {
 
     TodoResponse createTodo(TodoCreateRequest request);
 
     TodoResponse getTodoById(Long id);
 
-    Page<TodoResponse> getAllTodos(int page, int size);
+    /**
+     * Page reads take the generation the caller read with {@link #getTodosGeneration()} for its
+     * ETag, so one Redis read serves both and the page always belongs to that generation.
+     */
+    Page<TodoResponse> getAllTodos(int page, int size, long generation);
+
+    /**
+     * One result per requested id, in request order, with status 404 for ids that do not exist.
+     */
+    List<TodoLookupResult> getTodosByIds(List<Long> ids);
+
+    /**
+     * @param expectedVersion version the client last saw (from If-Match), or null to skip the check
+     */
+    TodoResponse updateTodo(Long id, TodoUpdateRequest request, Long expectedVersion);
+
+    /**
+     * @param expectedVersion version the client last saw (from If-Match), or null to skip the check
+     */
+    void deleteTodo(Long id, Long expectedVersion);
+
+    Page<TodoResponse> filterByCompleted(Boolean completed, int page, int size, long generation);
+
+    Page<TodoResponse> searchByTitle(String query, int page, int size, long generation);
+
+    Page<TodoResponse> queryTodos(TodoQuery query, long generation);
+
+    CursorPage<TodoResponse> scrollAllTodos(String after, int limit, long generation);
+
+    CursorPage<TodoResponse> scrollByCompleted(Boolean completed, String after, int limit, long generation);
+
+    CursorPage<TodoResponse> scrollByTitle(String query, String after, int limit, long generation);
 
-    TodoResponse updateTodo(Long id, TodoUpdateRequest request);
+    TagFilterPage filterByTags(List<String> tags, TagMatch match, String after, int limit, long generation);
 
-    void deleteTodo(Long id);
+    TodoBatchResponse executeBatch(TodoBatchRequest request);
 
-    Page<TodoResponse> filterByCompleted(Boolean completed, int page, int size);
+    /**
+     * Counter bumped by every write; list responses cached under a generation never change.
+     */
+    long getTodosGeneration();
 
-    Page<TodoResponse> searchByTitle(String query, int page, int size);
+    void exportTodos(Boolean completed, Consumer<TodoResponse> sink);
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.miniproject.todolist.service;
+
+import com.miniproject.todolist.dto.TodoStatsResponse;
+
+public interface TodoStatsService {
+
+    TodoStatsResponse getStats();
+
+    void reconcile();
+}
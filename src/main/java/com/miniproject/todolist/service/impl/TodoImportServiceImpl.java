@@ -0,0 +1,353 @@
+package com.miniproject.todolist.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.miniproject.todolist.cache.TodoPageCache;
+import com.miniproject.todolist.dto.TodoCreateRequest;
+import com.miniproject.todolist.dto.TodoImportError;
+import com.miniproject.todolist.dto.TodoImportResult;
+import com.miniproject.todolist.enums.DataFormat;
+import com.miniproject.todolist.enums.Priority;
+import com.miniproject.todolist.exception.TodoImportException;
+import com.miniproject.todolist.service.TodoImportService;
+import com.miniproject.todolist.util.Csv;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Loads NDJSON or CSV todos with PostgreSQL COPY.
+ * <p>
+ * Records are parsed and validated one at a time; valid rows are encoded into COPY text
+ * format and sent in chunks, all inside a single transaction. Ids are reserved from
+ * todos_id_seq in the same blocks Hibernate's pooled optimizer uses, so imported rows
+ * and application inserts never collide.
+ */
+@Slf4j
+@Service
+public class TodoImportServiceImpl implements TodoImportService {
+
+    static final String COPY_SQL =
+            "COPY todos (id, title, description, completed, priority, due_date, tags) FROM STDIN";
+
+    private static final String RESERVE_IDS_SQL = "SELECT nextval('todos_id_seq') FROM generate_series(1, ?)";
+
+    // Must match todos_id_seq INCREMENT BY and the entity's allocationSize
+    private static final int ID_BLOCK_SIZE = 50;
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final DataSource dataSource;
+    private final Validator validator;
+    private final TodoPageCache todoPageCache;
+    private final ObjectReader createRequestReader;
+    private final int chunkSize;
+    private final long progressInterval;
+
+    public TodoImportServiceImpl(DataSource dataSource,
+                                 Validator validator,
+                                 TodoPageCache todoPageCache,
+                                 Jackson2ObjectMapperBuilder jacksonBuilder,
+                                 @Value("${todolist.import.chunk-size:10000}") int chunkSize,
+                                 @Value("${todolist.import.progress-interval:100000}") long progressInterval) {
+        this.dataSource = dataSource;
+        this.validator = validator;
+        this.todoPageCache = todoPageCache;
+        this.createRequestReader = jacksonBuilder.build().readerFor(TodoCreateRequest.class);
+        this.chunkSize = chunkSize;
+        this.progressInterval = progressInterval;
+    }
+
+    @Override
+    public TodoImportResult importTodos(InputStream input, DataFormat format) {
+        long started = System.nanoTime();
+        ImportRun run = new ImportRun(started);
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                CopyChunk chunk = new CopyChunk(connection, connection.unwrap(PGConnection.class).getCopyAPI());
+                BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), 64 * 1024);
+                if (format == DataFormat.CSV) {
+                    readCsv(reader, run, chunk);
+                } else {
+                    readNdjson(reader, run, chunk);
+                }
+                chunk.flush();
+                connection.commit();
+            } catch (SQLException | IOException | RuntimeException ex) {
+                connection.rollback();
+                throw new TodoImportException("Import failed after " + run.recordsRead + " records", ex);
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException ex) {
+            throw new TodoImportException("Import failed", ex);
+        }
+
+        if (run.imported > 0) {
+            todoPageCache.bumpGeneration();
+        }
+        long durationMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("Import finished: {} records read, {} imported, {} rejected in {} ms",
+                run.recordsRead, run.imported, run.rejected, durationMillis);
+        return new TodoImportResult(run.recordsRead, run.imported, run.rejected, run.errors, durationMillis);
+    }
+
+    private void readNdjson(BufferedReader reader, ImportRun run, CopyChunk chunk) throws IOException, SQLException {
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            run.recordsRead++;
+            TodoCreateRequest request;
+            try {
+                request = createRequestReader.readValue(line);
+            } catch (JsonProcessingException ex) {
+                run.reject(lineNumber, "Malformed JSON: " + ex.getOriginalMessage());
+                continue;
+            }
+            accept(lineNumber, request, run, chunk);
+        }
+    }
+
+    private void readCsv(BufferedReader reader, ImportRun run, CopyChunk chunk) throws IOException, SQLException {
+        Csv.RecordReader records = new Csv.RecordReader(reader);
+        List<String> header = records.next();
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim(), i);
+        }
+        if (!columns.containsKey("title")) {
+            run.reject(1, "CSV header must contain a 'title' column");
+            return;
+        }
+
+        List<String> record;
+        while ((record = records.next()) != null) {
+            long lineNumber = records.recordLine();
+            if (record.size() == 1 && record.get(0).isEmpty()) {
+                continue;
+            }
+            run.recordsRead++;
+            TodoCreateRequest request;
+            try {
+                request = toCreateRequest(record, columns);
+            } catch (IllegalArgumentException | DateTimeParseException ex) {
+                run.reject(lineNumber, ex.getMessage());
+                continue;
+            }
+            accept(lineNumber, request, run, chunk);
+        }
+    }
+
+    private void accept(long lineNumber, TodoCreateRequest request, ImportRun run, CopyChunk chunk)
+            throws IOException, SQLException {
+        Set<ConstraintViolation<TodoCreateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            run.reject(lineNumber, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return;
+        }
+        chunk.append(request);
+        run.imported++;
+        if (run.imported % progressInterval == 0) {
+            run.logProgress();
+        }
+    }
+
+    static TodoCreateRequest toCreateRequest(List<String> record, Map<String, Integer> columns) {
+        TodoCreateRequest request = new TodoCreateRequest();
+        request.setTitle(column(record, columns, "title"));
+        request.setDescription(column(record, columns, "description"));
+        request.setTags(column(record, columns, "tags"));
+
+        String completed = column(record, columns, "completed");
+        if (completed != null) {
+            if (!completed.equalsIgnoreCase("true") && !completed.equalsIgnoreCase("false")) {
+                throw new IllegalArgumentException("completed: expected true or false but was '" + completed + "'");
+            }
+            request.setCompleted(Boolean.parseBoolean(completed));
+        }
+
+        String priority = column(record, columns, "priority");
+        if (priority != null) {
+            try {
+                request.setPriority(Priority.valueOf(priority.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("priority: expected LOW, MEDIUM or HIGH but was '" + priority + "'");
+            }
+        }
+
+        String dueDate = column(record, columns, "dueDate");
+        if (dueDate != null) {
+            try {
+                request.setDueDate(LocalDateTime.parse(dueDate.trim()));
+            } catch (DateTimeParseException ex) {
+                throw new IllegalArgumentException("dueDate: expected ISO date-time but was '" + dueDate + "'");
+            }
+        }
+        return request;
+    }
+
+    private static String column(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    static void appendCopyText(StringBuilder out, String value) {
+        if (value == null) {
+            out.append("\\N");
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> out.append("\\\\");
+                case '\t' -> out.append("\\t");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                default -> out.append(c);
+            }
+        }
+    }
+
+    private final class CopyChunk {
+
+        private final Connection connection;
+        private final CopyManager copyManager;
+        private final StringBuilder rows = new StringBuilder();
+        private final Deque<Long> reservedIds = new ArrayDeque<>();
+        private int rowCount;
+
+        private CopyChunk(Connection connection, CopyManager copyManager) {
+            this.connection = connection;
+            this.copyManager = copyManager;
+        }
+
+        void append(TodoCreateRequest request) throws IOException, SQLException {
+            rows.append(nextId()).append('\t');
+            appendCopyText(rows, request.getTitle());
+            rows.append('\t');
+            appendCopyText(rows, request.getDescription());
+            rows.append('\t');
+            rows.append(request.getCompleted() != null && request.getCompleted());
+            rows.append('\t');
+            rows.append((request.getPriority() != null ? request.getPriority() : Priority.MEDIUM).name());
+            rows.append('\t');
+            appendCopyText(rows, request.getDueDate() != null ? request.getDueDate().toString() : null);
+            rows.append('\t');
+            appendCopyText(rows, request.getTags());
+            rows.append('\n');
+            if (++rowCount >= chunkSize) {
+                flush();
+            }
+        }
+
+        void flush() throws IOException, SQLException {
+            if (rowCount == 0) {
+                return;
+            }
+            byte[] bytes = rows.toString().getBytes(StandardCharsets.UTF_8);
+            CopyIn copyIn = copyManager.copyIn(COPY_SQL);
+            try {
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+                copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+            rows.setLength(0);
+            rowCount = 0;
+        }
+
+        private long nextId() throws SQLException {
+            if (reservedIds.isEmpty()) {
+                reserveIds();
+            }
+            return reservedIds.removeFirst();
+        }
+
+        // Each sequence value V owns ids (V - 49, V], exactly as in Hibernate's pooled optimizer
+        private void reserveIds() throws SQLException {
+            try (PreparedStatement statement = connection.prepareStatement(RESERVE_IDS_SQL)) {
+                statement.setInt(1, Math.max(1, chunkSize / ID_BLOCK_SIZE));
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        long high = resultSet.getLong(1);
+                        for (long id = Math.max(1, high - ID_BLOCK_SIZE + 1); id <= high; id++) {
+                            reservedIds.addLast(id);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class ImportRun {
+
+        private final long started;
+        private final List<TodoImportError> errors = new ArrayList<>();
+        private long recordsRead;
+        private long imported;
+        private long rejected;
+
+        private ImportRun(long started) {
+            this.started = started;
+        }
+
+        void reject(long line, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new TodoImportError(line, message));
+            }
+        }
+
+        void logProgress() {
+            double seconds = Math.max(1e-9, (System.nanoTime() - started) / 1e9);
+            log.info("Import progress: {} imported, {} rejected ({} rows/s)",
+                    imported, rejected, Math.round(imported / seconds));
+        }
+    }
+}
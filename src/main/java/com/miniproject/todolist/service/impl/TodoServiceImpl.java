@@ -1,66 +1,437 @@
 package com.miniproject.todolist.service.impl;
 
+import com.miniproject.todolist.cache.TodoJsonCache;
+import com.miniproject.todolist.cache.TodoMultiGetCache;
+import com.miniproject.todolist.cache.TodoPageCache;
+import com.miniproject.todolist.dto.CachedPage;
+import com.miniproject.todolist.dto.CursorPage;
+import com.miniproject.todolist.dto.TagFacet;
+import com.miniproject.todolist.dto.TagFilterPage;
+import com.miniproject.todolist.dto.TodoBatchItemResult;
+import com.miniproject.todolist.dto.TodoBatchOperation;
+import com.miniproject.todolist.dto.TodoBatchRequest;
+import com.miniproject.todolist.dto.TodoBatchResponse;
 import com.miniproject.todolist.dto.TodoCreateRequest;
+import com.miniproject.todolist.dto.TodoLookupResult;
+import com.miniproject.todolist.dto.TodoQuery;
 import com.miniproject.todolist.dto.TodoResponse;
 import com.miniproject.todolist.dto.TodoUpdateRequest;
 import com.miniproject.todolist.entity.Todo;
+import com.miniproject.todolist.enums.BatchOperationType;
+import com.miniproject.todolist.enums.TagMatch;
+import com.miniproject.todolist.exception.TodoLookupTooLargeException;
 import com.miniproject.todolist.exception.TodoNotFoundException;
+import com.miniproject.todolist.exception.TodoVersionMismatchException;
+import com.miniproject.todolist.datasource.PrimaryReads;
 import com.miniproject.todolist.repository.TodoRepository;
+import com.miniproject.todolist.repository.TodoSpecifications;
 import com.miniproject.todolist.service.TodoService;
+import com.miniproject.todolist.util.TodoCursor;
+import com.miniproject.todolist.util.TransactionCallbacks;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 @Service
 @RequiredArgsConstructor
-@Transactional
+@Transactional(readOnly = true)
 public class TodoServiceImpl implements TodoService {
 
+    static final int MAX_CURSOR_LIMIT = 100;
+
+    static final int MAX_TAG_FACETS = 20;
+
+    static final int MAX_LOOKUP_IDS = 1000;
+
+    private static final String TODOS_CACHE = "todos";
+
     private final TodoRepository todoRepository;
+    private final TodoPageCache todoPageCache;
+    private final CacheManager cacheManager;
+    private final TodoMultiGetCache todoMultiGetCache;
 
     @Override
-    @CacheEvict(value = "todos", allEntries = true)
+    @Transactional
     public TodoResponse createTodo(TodoCreateRequest request) {
-        Todo todo = new Todo();
-        todo.setTitle(request.getTitle());
-        todo.setDescription(request.getDescription());
-        todo.setCompleted(request.getCompleted() != null ? request.getCompleted() : false);
-        todo.setPriority(request.getPriority());
-        todo.setDueDate(request.getDueDate());
-        todo.setTags(request.getTags());
-
-        Todo savedTodo = todoRepository.save(todo);
+        Todo savedTodo = todoRepository.save(toNewTodo(request));
+        todoPageCache.bumpGeneration();
         return mapToResponse(savedTodo);
     }
 
     @Override
-    @Cacheable(value = "todos", key = "#id")
+    @Cacheable(value = "todos", key = "#id", sync = true)
     public TodoResponse getTodoById(Long id) {
-        Todo todo = todoRepository.findById(id)
+        // The result is shared through the todos cache, so it must not come from a lagging replica
+        return PrimaryReads.call(() -> todoRepository.findResponseById(id))
                 .orElseThrow(() -> new TodoNotFoundException(id));
-        return mapToResponse(todo);
     }
 
+    // Outside a transaction so that an all-hit lookup never borrows a connection
     @Override
-    public Page<TodoResponse> getAllTodos(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<Todo> todos = todoRepository.findAll(pageable);
-        return todos.map(this::mapToResponse);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<TodoLookupResult> getTodosByIds(List<Long> ids) {
+        if (ids.size() > MAX_LOOKUP_IDS) {
+            throw new TodoLookupTooLargeException(ids.size(), MAX_LOOKUP_IDS);
+        }
+        Set<Long> distinctIds = ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, TodoResponse> found = distinctIds.isEmpty()
+                ? Map.of()
+                : todoMultiGetCache.getAll(distinctIds, todoRepository::findResponsesByIdIn);
+
+        List<TodoLookupResult> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            TodoResponse todo = id != null ? found.get(id) : null;
+            results.add(todo != null
+                    ? new TodoLookupResult(id, HttpStatus.OK.value(), todo)
+                    : new TodoLookupResult(id, HttpStatus.NOT_FOUND.value(), null));
+        }
+        return results;
     }
 
+    // Page reads run outside a transaction so cache hits never borrow a connection;
+    // TodoPageCache opens a read-only one for misses only
     @Override
-    @CacheEvict(value = "todos", allEntries = true)
-    public TodoResponse updateTodo(Long id, TodoUpdateRequest request) {
-        Todo todo = todoRepository.findById(id)
-                .orElseThrow(() -> new TodoNotFoundException(id));
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Page<TodoResponse> getAllTodos(int page, int size, long generation) {
+        Sort sort = Sort.by("createdAt").descending();
+        CachedPage cached = todoPageCache.get(TodoPageCache.TODOS_LIST, generation, page + ":" + size, () -> {
+            Pageable pageable = PageRequest.of(page, size, sort);
+            return CachedPage.of(todoRepository.findAllResponses(pageable));
+        });
+        return cached.toPage(sort);
+    }
+
+    @Override
+    @Transactional
+    @Caching(
+            put = @CachePut(value = "todos", key = "#id"),
+            evict = @CacheEvict(value = TodoJsonCache.TODOS_JSON, key = "#id")
+    )
+    public TodoResponse updateTodo(Long id, TodoUpdateRequest request, Long expectedVersion) {
+        // One UPDATE ... RETURNING; the row is only looked up again to tell 404 from 412
+        TodoResponse response = todoRepository.updateReturning(id, request, expectedVersion)
+                .orElseThrow(() -> missingOrChanged(id, expectedVersion));
+        todoPageCache.bumpGeneration();
+        return response;
+    }
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = "todos", key = "#id"),
+            @CacheEvict(value = TodoJsonCache.TODOS_JSON, key = "#id")
+    })
+    public void deleteTodo(Long id, Long expectedVersion) {
+        if (!todoRepository.deleteReturningId(id, expectedVersion)) {
+            throw missingOrChanged(id, expectedVersion);
+        }
+        todoPageCache.bumpGeneration();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Page<TodoResponse> filterByCompleted(Boolean completed, int page, int size, long generation) {
+        Sort sort = Sort.by("createdAt").descending();
+        String key = completed + ":" + page + ":" + size;
+        CachedPage cached = todoPageCache.get(TodoPageCache.TODOS_FILTERED, generation, key, () -> {
+            Pageable pageable = PageRequest.of(page, size, sort);
+            return CachedPage.of(todoRepository.findResponsesByCompleted(completed, pageable));
+        });
+        return cached.toPage(sort);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Page<TodoResponse> searchByTitle(String query, int page, int size, long generation) {
+        // Ordering is part of the query, so the page request stays unsorted
+        String key = page + ":" + size + ":" + query;
+        CachedPage cached = todoPageCache.get(TodoPageCache.TODOS_SEARCH, generation, key, () -> {
+            Pageable pageable = PageRequest.of(page, size);
+            return CachedPage.of(todoRepository.searchByTitle(escapeLike(query), pageable));
+        });
+        return cached.toPage(Sort.unsorted());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Page<TodoResponse> queryTodos(TodoQuery query, long generation) {
+        // id breaks ties so pages stay stable; both columns are part of the V6 indexes
+        Sort sort = Sort.by(query.getDirection(), query.getSort().getProperty(), "id");
+        CachedPage cached = todoPageCache.get(TodoPageCache.TODOS_FILTERED, generation, "query:" + query, () -> {
+            Pageable pageable = PageRequest.of(query.getPage(), query.getSize(), sort);
+            return CachedPage.of(todoRepository.findResponses(TodoSpecifications.matching(query), pageable));
+        });
+        return cached.toPage(sort);
+    }
+
+    // Cursors are decoded before the cache lookup so malformed ones fail fast with 400
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CursorPage<TodoResponse> scrollAllTodos(String after, int limit, long generation) {
+        int sliceSize = clampLimit(limit);
+        TodoCursor cursor = after != null ? TodoCursor.decode(after) : null;
+        String key = "slice:" + sliceSize + ":" + after;
+        return todoPageCache.get(TodoPageCache.TODOS_LIST, generation, key, () -> {
+            Pageable window = PageRequest.ofSize(sliceSize + 1);
+            List<TodoResponse> todos = cursor == null
+                    ? todoRepository.findFirstSlice(window)
+                    : todoRepository.findSliceAfter(cursor.createdAt(), cursor.id(), window);
+            return toCursorPage(todos, sliceSize);
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CursorPage<TodoResponse> scrollByCompleted(Boolean completed, String after, int limit, long generation) {
+        int sliceSize = clampLimit(limit);
+        TodoCursor cursor = after != null ? TodoCursor.decode(after) : null;
+        String key = "slice:" + completed + ":" + sliceSize + ":" + after;
+        return todoPageCache.get(TodoPageCache.TODOS_FILTERED, generation, key, () -> {
+            Pageable window = PageRequest.ofSize(sliceSize + 1);
+            List<TodoResponse> todos = cursor == null
+                    ? todoRepository.findFirstSliceByCompleted(completed, window)
+                    : todoRepository.findSliceByCompletedAfter(completed, cursor.createdAt(), cursor.id(), window);
+            return toCursorPage(todos, sliceSize);
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CursorPage<TodoResponse> scrollByTitle(String query, String after, int limit, long generation) {
+        int sliceSize = clampLimit(limit);
+        TodoCursor cursor = after != null ? TodoCursor.decode(after) : null;
+        String key = "slice:" + sliceSize + ":" + after + ":" + query;
+        return todoPageCache.get(TodoPageCache.TODOS_SEARCH, generation, key, () -> {
+            Pageable window = PageRequest.ofSize(sliceSize + 1);
+            String pattern = escapeLike(query);
+            List<TodoResponse> todos = cursor == null
+                    ? todoRepository.findFirstSliceByTitle(pattern, window)
+                    : todoRepository.findSliceByTitleAfter(pattern, cursor.createdAt(), cursor.id(), window);
+            return toCursorPage(todos, sliceSize);
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TagFilterPage filterByTags(List<String> tags, TagMatch match, String after, int limit, long generation) {
+        int sliceSize = clampLimit(limit);
+        TodoCursor cursor = after != null ? TodoCursor.decode(after) : null;
+        String[] normalized = normalizeTags(tags);
+        if (normalized.length == 0) {
+            return new TagFilterPage(new ArrayList<>(), null, false, 0, new ArrayList<>());
+        }
+        boolean matchAll = match == TagMatch.ALL;
+        String key = "tags:" + match + ":" + sliceSize + ":" + after + ":" + String.join(",", normalized);
+        return todoPageCache.get(TodoPageCache.TODOS_FILTERED, generation, key, () -> {
+            Pageable window = PageRequest.ofSize(sliceSize + 1);
+            List<TodoResponse> todos;
+            if (cursor == null) {
+                todos = matchAll
+                        ? todoRepository.findFirstSliceByAllTags(normalized, window)
+                        : todoRepository.findFirstSliceByAnyTag(normalized, window);
+            } else {
+                todos = matchAll
+                        ? todoRepository.findSliceByAllTagsAfter(normalized, cursor.createdAt(), cursor.id(), window)
+                        : todoRepository.findSliceByAnyTagAfter(normalized, cursor.createdAt(), cursor.id(), window);
+            }
+            CursorPage<TodoResponse> slice = toCursorPage(todos, sliceSize);
+            // Facets describe the whole match set, so only the first slice pays for them
+            List<TagFacet> facets = cursor == null ? countTags(normalized, matchAll) : null;
+            return new TagFilterPage(slice.getContent(), slice.getNextCursor(), slice.isHasNext(), slice.getSize(), facets);
+        });
+    }
 
+    @Override
+    @Transactional
+    public TodoBatchResponse executeBatch(TodoBatchRequest request) {
+        List<TodoBatchOperation> operations = request.getOperations();
+
+        // Load every update/delete target with a single IN query
+        Set<Long> targetIds = operations.stream()
+                .filter(operation -> operation.getType() != BatchOperationType.CREATE && operation.getId() != null)
+                .map(TodoBatchOperation::getId)
+                .collect(Collectors.toSet());
+        Map<Long, Todo> targets = new HashMap<>();
+        todoRepository.findAllById(targetIds).forEach(todo -> targets.put(todo.getId(), todo));
+
+        // All changes go out in one flush, so a second operation on an id would leave the first
+        // one's result describing a state that was never written; every operation on it fails
+        Set<Long> seenIds = new HashSet<>();
+        Set<Long> repeatedIds = operations.stream()
+                .filter(operation -> operation.getType() != BatchOperationType.CREATE && operation.getId() != null)
+                .map(TodoBatchOperation::getId)
+                .filter(id -> !seenIds.add(id))
+                .collect(Collectors.toSet());
+
+        TodoBatchItemResult[] results = new TodoBatchItemResult[operations.size()];
+        Map<Integer, Todo> written = new LinkedHashMap<>();
+        List<Long> deletedIds = new ArrayList<>();
+
+        for (int index = 0; index < operations.size(); index++) {
+            TodoBatchOperation operation = operations.get(index);
+            BatchOperationType type = operation.getType();
+            switch (type) {
+                case CREATE -> {
+                    if (operation.getCreate() == null) {
+                        results[index] = failure(index, operation, HttpStatus.BAD_REQUEST, "CREATE requires 'create'");
+                        continue;
+                    }
+                    // Sequence-generated ids: persist defers the INSERT to the batched flush
+                    written.put(index, todoRepository.save(toNewTodo(operation.getCreate())));
+                }
+                case UPDATE -> {
+                    if (operation.getId() == null || operation.getUpdate() == null) {
+                        results[index] = failure(index, operation, HttpStatus.BAD_REQUEST, "UPDATE requires 'id' and 'update'");
+                        continue;
+                    }
+                    if (repeatedIds.contains(operation.getId())) {
+                        results[index] = repeatedIdFailure(index, operation);
+                        continue;
+                    }
+                    Todo todo = targets.get(operation.getId());
+                    if (todo == null) {
+                        results[index] = failure(index, operation, HttpStatus.NOT_FOUND,
+                                new TodoNotFoundException(operation.getId()).getMessage());
+                        continue;
+                    }
+                    applyUpdate(todo, operation.getUpdate());
+                    written.put(index, todo);
+                }
+                case DELETE -> {
+                    if (operation.getId() == null) {
+                        results[index] = failure(index, operation, HttpStatus.BAD_REQUEST, "DELETE requires 'id'");
+                        continue;
+                    }
+                    if (repeatedIds.contains(operation.getId())) {
+                        results[index] = repeatedIdFailure(index, operation);
+                        continue;
+                    }
+                    Todo todo = targets.remove(operation.getId());
+                    if (todo == null) {
+                        results[index] = failure(index, operation, HttpStatus.NOT_FOUND,
+                                new TodoNotFoundException(operation.getId()).getMessage());
+                        continue;
+                    }
+                    todoRepository.delete(todo);
+                    deletedIds.add(todo.getId());
+                    results[index] = new TodoBatchItemResult(index, type, HttpStatus.NO_CONTENT.value(),
+                            todo.getId(), null, null);
+                }
+            }
+        }
+
+        // One flush sends all INSERTs, UPDATEs and DELETEs as ordered JDBC batches
+        todoRepository.flush();
+
+        Map<Long, TodoResponse> updatedResponses = new HashMap<>();
+        written.forEach((index, todo) -> {
+            TodoResponse response = mapToResponse(todo);
+            BatchOperationType type = operations.get(index).getType();
+            HttpStatus status = type == BatchOperationType.CREATE ? HttpStatus.CREATED : HttpStatus.OK;
+            results[index] = new TodoBatchItemResult(index, type, status.value(), todo.getId(), response, null);
+            if (type == BatchOperationType.UPDATE) {
+                updatedResponses.put(todo.getId(), response);
+            }
+        });
+
+        if (!written.isEmpty() || !deletedIds.isEmpty()) {
+            refreshTodosCache(updatedResponses, deletedIds);
+            todoPageCache.bumpGeneration();
+        }
+
+        int failed = (int) Arrays.stream(results).filter(result -> result.getError() != null).count();
+        return new TodoBatchResponse(Arrays.asList(results), results.length - failed, failed);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long getTodosGeneration() {
+        return todoPageCache.currentGeneration();
+    }
+
+    @Override
+    public void exportTodos(Boolean completed, Consumer<TodoResponse> sink) {
+        try (Stream<TodoResponse> todos = completed == null
+                ? todoRepository.streamAllForExport()
+                : todoRepository.streamByCompletedForExport(completed)) {
+            todos.forEach(sink);
+        }
+    }
+
+    private TodoBatchItemResult failure(int index, TodoBatchOperation operation, HttpStatus status, String error) {
+        return new TodoBatchItemResult(index, operation.getType(), status.value(), operation.getId(), null, error);
+    }
+
+    private TodoBatchItemResult repeatedIdFailure(int index, TodoBatchOperation operation) {
+        return failure(index, operation, HttpStatus.BAD_REQUEST,
+                "Todo " + operation.getId() + " appears in more than one operation of the batch");
+    }
+
+    // Same per-key maintenance as @CachePut/@CacheEvict on the single-item methods, after commit
+    private void refreshTodosCache(Map<Long, TodoResponse> updated, List<Long> deletedIds) {
+        TransactionCallbacks.afterCommit(() -> {
+            Cache todosCache = cacheManager.getCache(TODOS_CACHE);
+            if (todosCache != null) {
+                updated.forEach(todosCache::put);
+                deletedIds.forEach(todosCache::evict);
+            }
+            Cache todosJsonCache = cacheManager.getCache(TodoJsonCache.TODOS_JSON);
+            if (todosJsonCache != null) {
+                updated.keySet().forEach(todosJsonCache::evict);
+                deletedIds.forEach(todosJsonCache::evict);
+            }
+        });
+    }
+
+    private Todo toNewTodo(TodoCreateRequest request) {
+        Todo todo = new Todo();
+        todo.setTitle(request.getTitle());
+        todo.setDescription(request.getDescription());
+        todo.setCompleted(request.getCompleted() != null ? request.getCompleted() : false);
+        todo.setPriority(request.getPriority());
+        todo.setDueDate(request.getDueDate());
+        todo.setTags(request.getTags());
+        return todo;
+    }
+
+    private RuntimeException missingOrChanged(Long id, Long expectedVersion) {
+        if (expectedVersion != null && todoRepository.existsById(id)) {
+            return new TodoVersionMismatchException(id);
+        }
+        return new TodoNotFoundException(id);
+    }
+
+    private void applyUpdate(Todo todo, TodoUpdateRequest request) {
         if (request.getTitle() != null) {
             todo.setTitle(request.getTitle());
         }
@@ -79,35 +450,59 @@ public class TodoServiceImpl implements TodoService {
         if (request.getTags() != null) {
             todo.setTags(request.getTags());
         }
+    }
 
-        Todo updatedTodo = todoRepository.save(todo);
-        return mapToResponse(updatedTodo);
+    private List<TagFacet> countTags(String[] tags, boolean matchAll) {
+        String literal = toArrayLiteral(tags);
+        List<Object[]> rows = matchAll
+                ? todoRepository.countTagsMatchingAll(literal, MAX_TAG_FACETS)
+                : todoRepository.countTagsMatchingAny(literal, MAX_TAG_FACETS);
+        return rows.stream()
+                .map(row -> new TagFacet((String) row[0], ((Number) row[1]).longValue()))
+                .collect(Collectors.toList());
     }
 
-    @Override
-    @CacheEvict(value = "todos", allEntries = true)
-    public void deleteTodo(Long id) {
-        if (!todoRepository.existsById(id)) {
-            throw new TodoNotFoundException(id);
-        }
-        todoRepository.deleteById(id);
+    // Same normalization as todos_normalize_tags() in V5__add_normalized_tag_list.sql
+    static String[] normalizeTags(List<String> tags) {
+        return tags.stream()
+                .flatMap(tag -> Arrays.stream(tag.split(",")))
+                .map(tag -> tag.trim().toLowerCase(Locale.ROOT))
+                .filter(tag -> !tag.isEmpty())
+                .distinct()
+                .sorted()
+                .toArray(String[]::new);
     }
 
-    @Override
-    public Page<TodoResponse> filterByCompleted(Boolean completed, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<Todo> todos = todoRepository.findByCompleted(completed, pageable);
-        return todos.map(this::mapToResponse);
+    static String toArrayLiteral(String[] values) {
+        return Arrays.stream(values)
+                .map(value -> '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"')
+                .collect(Collectors.joining(",", "{", "}"));
     }
 
-    @Override
-    public Page<TodoResponse> searchByTitle(String query, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<Todo> todos = todoRepository.findByTitleContainingIgnoreCase(query, pageable);
-        return todos.map(this::mapToResponse);
+    private int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_CURSOR_LIMIT));
+    }
+
+    private String escapeLike(String query) {
+        return query.replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+    }
+
+    // Slices are fetched with one extra row so hasNext is known without a COUNT query
+    private CursorPage<TodoResponse> toCursorPage(List<TodoResponse> todos, int sliceSize) {
+        boolean hasNext = todos.size() > sliceSize;
+        // Copied into an ArrayList: subList views do not survive the cache serializer
+        List<TodoResponse> content = new ArrayList<>(hasNext ? todos.subList(0, sliceSize) : todos);
+        String nextCursor = null;
+        if (hasNext) {
+            TodoResponse last = content.get(content.size() - 1);
+            nextCursor = new TodoCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(content, nextCursor, hasNext, content.size());
     }
 
-    private TodoResponse mapToResponse(Todo todo) {
+    TodoResponse mapToResponse(Todo todo) {
         TodoResponse response = new TodoResponse();
         response.setId(todo.getId());
         response.setTitle(todo.getTitle());
@@ -118,6 +513,7 @@ public class TodoServiceImpl implements TodoService {
         response.setTags(todo.getTags());
         response.setCreatedAt(todo.getCreatedAt());
         response.setUpdatedAt(todo.getUpdatedAt());
+        response.setVersion(todo.getVersion());
         return response;
     }
 }
\ No newline at end of file
@@ -0,0 +1,84 @@
+package com.miniproject.todolist.service.impl;
+
+import com.miniproject.todolist.dto.TodoStatsResponse;
+import com.miniproject.todolist.enums.Priority;
+import com.miniproject.todolist.repository.TodoRepository;
+import com.miniproject.todolist.service.TodoStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TodoStatsServiceImpl implements TodoStatsService {
+
+    private final TodoRepository todoRepository;
+
+    @Override
+    public TodoStatsResponse getStats() {
+        long completed = 0;
+        long open = 0;
+        Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+        for (Priority priority : Priority.values()) {
+            byPriority.put(priority, 0L);
+        }
+
+        for (Object[] row : todoRepository.sumStats()) {
+            long count = ((Number) row[2]).longValue();
+            if ((Boolean) row[0]) {
+                completed += count;
+            } else {
+                open += count;
+            }
+            byPriority.merge(Priority.valueOf((String) row[1]), count, Long::sum);
+        }
+
+        long overdue = todoRepository.countOverdue(LocalDateTime.now());
+        return new TodoStatsResponse(completed + open, completed, open, overdue, byPriority);
+    }
+
+    // Rebuilds the counters from the todos table to correct any drift (manual edits, a
+    // disabled trigger, a restore). Only one instance does the work per run.
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${todolist.stats.reconcile-interval:1h}",
+            initialDelayString = "${todolist.stats.reconcile-initial-delay:5m}")
+    public void reconcile() {
+        if (!todoRepository.tryLockStatsReconciliation()) {
+            log.debug("Skipping todo_stats reconciliation; another instance is running it");
+            return;
+        }
+        todoRepository.lockStats();
+        Map<String, Long> before = snapshot(todoRepository.sumStats());
+        todoRepository.clearStats();
+        todoRepository.rebuildStats();
+        Map<String, Long> after = snapshot(todoRepository.sumStats());
+
+        if (before.equals(after)) {
+            log.debug("todo_stats reconciled, no drift");
+        } else {
+            log.warn("todo_stats drift corrected: {} -> {}", before, after);
+        }
+    }
+
+    private static Map<String, Long> snapshot(List<Object[]> rows) {
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            long count = ((Number) row[2]).longValue();
+            if (count != 0) {
+                counts.put((Boolean) row[0] + "/" + row[1], count);
+            }
+        }
+        return counts;
+    }
+}
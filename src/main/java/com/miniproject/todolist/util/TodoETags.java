@@ -0,0 +1,55 @@
+package com.miniproject.todolist.util;
+
+import com.miniproject.todolist.dto.TodoResponse;
+import com.miniproject.todolist.exception.TodoVersionMismatchException;
+
+/**
+ * Strong entity tags for todos and list responses.
+ * <p>
+ * A todo's tag is {@code "<id>-<version>"}, so it changes with every update and can be
+ * turned back into the version for If-Match without reading the row. List responses are
+ * tagged with the page cache generation, which every write bumps.
+ */
+public final class TodoETags {
+
+    private TodoETags() {
+    }
+
+    /**
+     * Returns null for responses without a version, e.g. cache entries written before versions existed.
+     */
+    public static String of(TodoResponse todo) {
+        if (todo.getId() == null || todo.getVersion() == null) {
+            return null;
+        }
+        return "\"" + todo.getId() + "-" + todo.getVersion() + "\"";
+    }
+
+    public static String ofGeneration(long generation) {
+        return "\"g" + generation + "\"";
+    }
+
+    /**
+     * Version required by an If-Match header, or null when there is no header or it is {@code *}.
+     * Only the first tag belonging to this todo is used; weak tags never match.
+     *
+     * @throws TodoVersionMismatchException if no tag in the header belongs to this todo
+     */
+    public static Long expectedVersion(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String prefix = "\"" + id + "-";
+        for (String tag : ifMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.startsWith(prefix) && candidate.endsWith("\"") && candidate.length() > prefix.length() + 1) {
+                try {
+                    return Long.valueOf(candidate.substring(prefix.length(), candidate.length() - 1));
+                } catch (NumberFormatException ex) {
+                    // Not one of ours; try the next tag
+                }
+            }
+        }
+        throw new TodoVersionMismatchException(id);
+    }
+}
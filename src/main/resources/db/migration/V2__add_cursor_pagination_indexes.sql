@@ -0,0 +1,5 @@
+-- Composite index backing keyset pagination ordered by (created_at, id)
+CREATE INDEX IF NOT EXISTS idx_todos_created_at_id ON todos(created_at DESC, id DESC);
+
+-- Composite index backing keyset pagination filtered by completion status
+CREATE INDEX IF NOT EXISTS idx_todos_completed_created_at_id ON todos(completed, created_at DESC, id DESC);
@@ -0,0 +1,5 @@
+-- Trigram support for case-insensitive substring search on title
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- GIN trigram index serving title ILIKE '%query%'
+CREATE INDEX IF NOT EXISTS idx_todos_title_trgm ON todos USING gin (title gin_trgm_ops);
@@ -0,0 +1,4 @@
+-- Let Hibernate reserve ids in blocks of 50 (pooled optimizer) so inserts can be JDBC-batched.
+-- Each nextval value V owns the id range (V - 49, V], so rows inserted with the column default
+-- never collide with ids handed out by the application.
+ALTER SEQUENCE todos_id_seq INCREMENT BY 50;
@@ -0,0 +1,19 @@
+-- Normalized tags: trimmed, lower-cased, de-duplicated and sorted, with empty entries dropped.
+-- Declared IMMUTABLE so it can back a generated column.
+CREATE OR REPLACE FUNCTION todos_normalize_tags(raw_tags text) RETURNS text[]
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE AS
+$$
+SELECT coalesce(array_agg(DISTINCT tag ORDER BY tag), '{}')
+FROM (SELECT lower(btrim(part)) AS tag
+      FROM unnest(string_to_array(coalesce(raw_tags, ''), ',')) AS part) AS parts
+WHERE tag <> ''
+$$;
+
+-- Derived from the comma-separated tags column, so every writer (JPA, COPY import, plain SQL)
+-- keeps it in sync. Adding a stored generated column rewrites the table, which backfills
+-- existing rows.
+ALTER TABLE todos
+    ADD COLUMN tag_list text[] GENERATED ALWAYS AS (todos_normalize_tags(tags)) STORED;
+
+-- Serves tag_list && (any of) and tag_list @> (all of)
+CREATE INDEX IF NOT EXISTS idx_todos_tag_list ON todos USING gin (tag_list);
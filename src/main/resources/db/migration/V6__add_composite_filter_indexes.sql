@@ -0,0 +1,16 @@
+-- Indexes for the query shapes served by GET /api/v1/todos/query.
+-- Sort columns come last and id breaks ties, so each shape can read rows in order and stop at the page limit.
+
+-- Open todos by due date, optionally bounded ("what is due next")
+CREATE INDEX IF NOT EXISTS idx_todos_open_due_date ON todos (due_date, id) WHERE completed = false;
+
+-- Open todos of one or more priorities by due date ("open, HIGH, due before X")
+CREATE INDEX IF NOT EXISTS idx_todos_open_priority_due_date ON todos (priority, due_date, id) WHERE completed = false;
+
+-- Priority filter, newest first
+CREATE INDEX IF NOT EXISTS idx_todos_priority_created_at_id ON todos (priority, created_at DESC, id DESC);
+
+-- Superseded: completed is the leading column of idx_todos_completed_created_at_id, and
+-- priority of idx_todos_priority_created_at_id
+DROP INDEX IF EXISTS idx_todos_completed;
+DROP INDEX IF EXISTS idx_todos_priority;
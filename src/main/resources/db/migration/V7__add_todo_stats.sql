@@ -0,0 +1,75 @@
+-- Running counts per (completed, priority), kept up to date by statement-level triggers in
+-- the same transaction as every INSERT, UPDATE and DELETE on todos, whatever the writer.
+-- Each statement adds its delta to one of 16 slots chosen at random, so concurrent writers
+-- rarely wait on the same counter row. Readers sum the slots.
+CREATE TABLE IF NOT EXISTS todo_stats (
+    completed  BOOLEAN     NOT NULL,
+    priority   VARCHAR(20) NOT NULL,
+    slot       SMALLINT    NOT NULL,
+    todo_count BIGINT      NOT NULL,
+    PRIMARY KEY (completed, priority, slot)
+);
+
+CREATE OR REPLACE FUNCTION todo_stats_after_insert() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    INSERT INTO todo_stats AS s (completed, priority, slot, todo_count)
+    SELECT completed, priority, floor(random() * 16)::smallint, count(*)
+    FROM new_rows
+    GROUP BY completed, priority
+    ON CONFLICT (completed, priority, slot) DO UPDATE SET todo_count = s.todo_count + EXCLUDED.todo_count;
+    RETURN NULL;
+END
+$$;
+
+CREATE OR REPLACE FUNCTION todo_stats_after_delete() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    INSERT INTO todo_stats AS s (completed, priority, slot, todo_count)
+    SELECT completed, priority, floor(random() * 16)::smallint, -count(*)
+    FROM old_rows
+    GROUP BY completed, priority
+    ON CONFLICT (completed, priority, slot) DO UPDATE SET todo_count = s.todo_count + EXCLUDED.todo_count;
+    RETURN NULL;
+END
+$$;
+
+-- Updates that leave completed and priority alone net out to nothing and touch no counter
+CREATE OR REPLACE FUNCTION todo_stats_after_update() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    INSERT INTO todo_stats AS s (completed, priority, slot, todo_count)
+    SELECT completed, priority, floor(random() * 16)::smallint, sum(delta)
+    FROM (SELECT completed, priority, 1 AS delta FROM new_rows
+          UNION ALL
+          SELECT completed, priority, -1 AS delta FROM old_rows) AS changes
+    GROUP BY completed, priority
+    HAVING sum(delta) <> 0
+    ON CONFLICT (completed, priority, slot) DO UPDATE SET todo_count = s.todo_count + EXCLUDED.todo_count;
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER todos_stats_insert
+    AFTER INSERT ON todos
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION todo_stats_after_insert();
+
+CREATE TRIGGER todos_stats_delete
+    AFTER DELETE ON todos
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION todo_stats_after_delete();
+
+CREATE TRIGGER todos_stats_update
+    AFTER UPDATE ON todos
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION todo_stats_after_update();
+
+-- Backfill existing rows
+INSERT INTO todo_stats (completed, priority, slot, todo_count)
+SELECT completed, priority, 0, count(*)
+FROM todos
+GROUP BY completed, priority;
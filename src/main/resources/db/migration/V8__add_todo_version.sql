@@ -0,0 +1,2 @@
+-- Row version for optimistic locking and HTTP entity tags; bumped by Hibernate on every update
+ALTER TABLE todos ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,93 @@
+-- Change log behind GET /api/v1/todos/stream. Statement-level triggers append one row per
+-- changed todo in the writing transaction and send one NOTIFY per statement carrying the
+-- range of event ids it wrote ('<first>:<last>'), so a bulk import costs one notification.
+-- Listeners read the range back; reconnecting clients resume from the log by event id.
+CREATE TABLE IF NOT EXISTS todo_changes (
+    event_id    BIGSERIAL PRIMARY KEY,
+    change_type VARCHAR(10) NOT NULL,
+    todo_id     BIGINT      NOT NULL,
+    version     BIGINT,
+    changed_at  TIMESTAMP   NOT NULL DEFAULT now()
+);
+
+-- Rows arrive in changed_at order, which is all the retention purge needs
+CREATE INDEX IF NOT EXISTS idx_todo_changes_changed_at ON todo_changes USING brin (changed_at);
+
+CREATE OR REPLACE FUNCTION todo_changes_notify(first_id BIGINT, last_id BIGINT) RETURNS void
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    IF last_id IS NOT NULL THEN
+        PERFORM pg_notify('todo_changes', first_id || ':' || last_id);
+    END IF;
+END
+$$;
+
+CREATE OR REPLACE FUNCTION todo_changes_after_insert() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    first_id BIGINT;
+    last_id  BIGINT;
+BEGIN
+    WITH logged AS (
+        INSERT INTO todo_changes (change_type, todo_id, version)
+        SELECT 'CREATED', id, version FROM new_rows
+        RETURNING event_id
+    )
+    SELECT min(event_id), max(event_id) INTO first_id, last_id FROM logged;
+    PERFORM todo_changes_notify(first_id, last_id);
+    RETURN NULL;
+END
+$$;
+
+CREATE OR REPLACE FUNCTION todo_changes_after_update() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    first_id BIGINT;
+    last_id  BIGINT;
+BEGIN
+    WITH logged AS (
+        INSERT INTO todo_changes (change_type, todo_id, version)
+        SELECT 'UPDATED', id, version FROM new_rows
+        RETURNING event_id
+    )
+    SELECT min(event_id), max(event_id) INTO first_id, last_id FROM logged;
+    PERFORM todo_changes_notify(first_id, last_id);
+    RETURN NULL;
+END
+$$;
+
+CREATE OR REPLACE FUNCTION todo_changes_after_delete() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    first_id BIGINT;
+    last_id  BIGINT;
+BEGIN
+    WITH logged AS (
+        INSERT INTO todo_changes (change_type, todo_id, version)
+        SELECT 'DELETED', id, version FROM old_rows
+        RETURNING event_id
+    )
+    SELECT min(event_id), max(event_id) INTO first_id, last_id FROM logged;
+    PERFORM todo_changes_notify(first_id, last_id);
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER todos_changes_insert
+    AFTER INSERT ON todos
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION todo_changes_after_insert();
+
+CREATE TRIGGER todos_changes_update
+    AFTER UPDATE ON todos
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION todo_changes_after_update();
+
+CREATE TRIGGER todos_changes_delete
+    AFTER DELETE ON todos
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION todo_changes_after_delete();
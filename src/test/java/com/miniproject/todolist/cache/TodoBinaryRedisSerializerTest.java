@@ -0,0 +1,145 @@
+package com.miniproject.todolist.cache;
+
+import com.miniproject.todolist.config.CacheConfig;
+import com.miniproject.todolist.dto.CachedPage;
+import com.miniproject.todolist.dto.CursorPage;
+import com.miniproject.todolist.dto.TagFacet;
+import com.miniproject.todolist.dto.TagFilterPage;
+import com.miniproject.todolist.dto.TodoResponse;
+import com.miniproject.todolist.enums.Priority;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoBinaryRedisSerializerTest {
+
+    private GenericJackson2JsonRedisSerializer jsonSerializer;
+    private TodoBinaryRedisSerializer serializer;
+
+    @BeforeEach
+    void setUp() {
+        jsonSerializer = new CacheConfig().jackson2JsonRedisSerializer();
+        serializer = new TodoBinaryRedisSerializer(jsonSerializer, 1024);
+    }
+
+    @Test
+    void testRoundTrip_TodoResponse() {
+        // Arrange
+        TodoResponse todo = todo(1L, "Write docs");
+
+        // Act
+        byte[] bytes = serializer.serialize(todo);
+        Object result = serializer.deserialize(bytes);
+
+        // Assert
+        assertEquals(todo, result);
+        assertEquals(TodoBinaryRedisSerializer.MAGIC, bytes[0]);
+        assertTrue(bytes.length < jsonSerializer.serialize(todo).length);
+    }
+
+    @Test
+    void testRoundTrip_TodoResponseWithNullFields() {
+        // Arrange
+        TodoResponse todo = new TodoResponse(7L, "Minimal", null, null, null, null, null, null, null, null);
+
+        // Act
+        Object result = serializer.deserialize(serializer.serialize(todo));
+
+        // Assert
+        assertEquals(todo, result);
+    }
+
+    @Test
+    void testRoundTrip_Pages() {
+        // Arrange
+        List<TodoResponse> content = List.of(todo(1L, "First"), todo(2L, "Second"));
+        CachedPage cachedPage = new CachedPage(content, 2, 20, 41);
+        CursorPage<TodoResponse> cursorPage = new CursorPage<>(content, "MjAyNS0xMS0yNlQxMDowMDp8NDI", true, 2);
+        TagFilterPage tagFilterPage = new TagFilterPage(content, null, false, 2,
+                List.of(new TagFacet("work", 12), new TagFacet("home", 3)));
+
+        // Act & Assert
+        assertEquals(cachedPage, serializer.deserialize(serializer.serialize(cachedPage)));
+        assertEquals(cursorPage, serializer.deserialize(serializer.serialize(cursorPage)));
+        assertEquals(tagFilterPage, serializer.deserialize(serializer.serialize(tagFilterPage)));
+    }
+
+    @Test
+    void testSerialize_CompressesLargeEntries() {
+        // Arrange
+        TodoResponse todo = todo(1L, "Long description");
+        todo.setDescription("Collect the numbers from finance and draft the slides. ".repeat(100));
+
+        // Act
+        byte[] bytes = serializer.serialize(todo);
+
+        // Assert
+        assertEquals(TodoBinaryRedisSerializer.FLAG_LZ4, bytes[2] & TodoBinaryRedisSerializer.FLAG_LZ4);
+        assertTrue(bytes.length < todo.getDescription().length());
+        assertEquals(todo, serializer.deserialize(bytes));
+    }
+
+    @Test
+    void testDeserialize_ReadsEntriesWrittenAsJson() {
+        // Arrange
+        TodoResponse todo = todo(1L, "Cached before the switch");
+        byte[] json = jsonSerializer.serialize(todo);
+
+        // Act
+        Object result = serializer.deserialize(json);
+
+        // Assert
+        assertEquals(todo, result);
+    }
+
+    @Test
+    void testSerialize_OtherTypesUseJsonFallback() {
+        // Arrange
+        List<String> value = new ArrayList<>(List.of("work", "home"));
+
+        // Act
+        byte[] bytes = serializer.serialize(value);
+
+        // Assert
+        assertNotEquals(TodoBinaryRedisSerializer.MAGIC, bytes[0]);
+        assertEquals(value, serializer.deserialize(bytes));
+    }
+
+    @Test
+    void testDeserialize_ReadsVersionOneEntries() {
+        // Arrange
+        TodoResponse todo = todo(1L, "Cached before row versions");
+        todo.setVersion(null);
+        byte[] bytes = serializer.serialize(todo);
+        bytes[1] = 1;
+
+        // Act
+        Object result = serializer.deserialize(bytes);
+
+        // Assert
+        assertEquals(todo, result);
+    }
+
+    @Test
+    void testDeserialize_UnknownVersionThrows() {
+        // Arrange
+        byte[] bytes = serializer.serialize(todo(1L, "Write docs"));
+        bytes[1] = 99;
+
+        // Act & Assert
+        assertThrows(SerializationException.class, () -> serializer.deserialize(bytes));
+    }
+
+    private TodoResponse todo(Long id, String title) {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 11, 26, 10, 0, 0, 123_456_000);
+        return new TodoResponse(id, title, "Write comprehensive documentation", true, Priority.HIGH,
+                LocalDateTime.of(1969, 12, 31, 23, 59, 59), "work,urgent", createdAt, createdAt.plusHours(5), 3L);
+    }
+}
@@ -0,0 +1,53 @@
+package com.miniproject.todolist.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoJsonRedisSerializerTest {
+
+    private final TodoJsonRedisSerializer serializer = new TodoJsonRedisSerializer();
+
+    @Test
+    void testRoundTrip_KeepsBodyAndValidators() {
+        // Arrange
+        byte[] body = "{\"id\":1,\"title\":\"Write docs\"}".getBytes(StandardCharsets.UTF_8);
+        CachedTodoJson json = new CachedTodoJson("\"1-3\"", 1_764_151_200_000L, body);
+
+        // Act
+        byte[] bytes = serializer.serialize(json);
+        CachedTodoJson result = (CachedTodoJson) serializer.deserialize(bytes);
+
+        // Assert
+        assertEquals("\"1-3\"", result.etag());
+        assertEquals(1_764_151_200_000L, result.lastModified());
+        assertArrayEquals(body, result.body());
+        assertEquals(body.length + 16, bytes.length);
+    }
+
+    @Test
+    void testRoundTrip_WithoutETag() {
+        // Arrange
+        CachedTodoJson json = new CachedTodoJson(null, 0L, "{}".getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        CachedTodoJson result = (CachedTodoJson) serializer.deserialize(serializer.serialize(json));
+
+        // Assert
+        assertNull(result.etag());
+        assertEquals(0L, result.lastModified());
+        assertArrayEquals(json.body(), result.body());
+    }
+
+    @Test
+    void testDeserialize_ForeignEntry_Throws() {
+        // Arrange
+        byte[] bytes = "{\"@class\":\"com.miniproject.todolist.dto.TodoResponse\"}".getBytes(StandardCharsets.UTF_8);
+
+        // Act & Assert
+        assertThrows(SerializationException.class, () -> serializer.deserialize(bytes));
+    }
+}
@@ -0,0 +1,102 @@
+package com.miniproject.todolist.cache;
+
+import com.miniproject.todolist.config.CacheConfig;
+import com.miniproject.todolist.dto.TodoResponse;
+import com.miniproject.todolist.enums.Priority;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TodoMultiGetCacheTest {
+
+    private RedisSerializer<Object> valueSerializer;
+    private RedisConnection connection;
+    private RedisStringCommands stringCommands;
+    private TodoMultiGetCache multiGetCache;
+
+    @BeforeEach
+    void setUp() {
+        valueSerializer = new CacheConfig().jackson2JsonRedisSerializer();
+        RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(Duration.ofMinutes(15))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer));
+        RedisCacheManager redisCacheManager = mock(RedisCacheManager.class);
+        when(redisCacheManager.getCacheConfigurations()).thenReturn(Map.of("todos", config));
+
+        connection = mock(RedisConnection.class);
+        stringCommands = mock(RedisStringCommands.class);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+        when(connectionFactory.getConnection()).thenReturn(connection);
+
+        multiGetCache = new TodoMultiGetCache(mock(CacheManager.class), redisCacheManager, connectionFactory);
+    }
+
+    @Test
+    void getAll_ReadsHitsInOneMgetAndLoadsMissesInOneCall() {
+        // Arrange
+        TodoResponse cached = todo(1L);
+        TodoResponse stored = todo(2L);
+        List<Object> mgetReply = Arrays.asList(valueSerializer.serialize(cached), null, null);
+        when(connection.closePipeline()).thenReturn(List.of(mgetReply), List.of(true));
+        List<Collection<Long>> loaderCalls = new ArrayList<>();
+
+        // Act
+        Map<Long, TodoResponse> found = multiGetCache.getAll(new LinkedHashSet<>(List.of(1L, 2L, 3L)), ids -> {
+            loaderCalls.add(List.copyOf(ids));
+            return List.of(stored);
+        });
+
+        // Assert
+        assertEquals(Map.of(1L, cached, 2L, stored), found);
+        assertEquals(List.of(List.of(2L, 3L)), loaderCalls);
+        verify(stringCommands, times(1)).mGet(
+                key("todos::1"), key("todos::2"), key("todos::3"));
+        verify(stringCommands, times(1)).set(eq(key("todos::2")), any(byte[].class),
+                eq(Expiration.from(Duration.ofMinutes(15))), eq(SetOption.ifAbsent()));
+        verify(connection, times(2)).openPipeline();
+    }
+
+    @Test
+    void getAll_RedisDown_LoadsEverythingFromLoader() {
+        // Arrange
+        when(connection.closePipeline()).thenThrow(new IllegalStateException("Connection refused"));
+
+        // Act
+        Map<Long, TodoResponse> found = multiGetCache.getAll(List.of(1L, 2L), ids -> ids.stream().map(this::todo).toList());
+
+        // Assert
+        assertEquals(2, found.size());
+    }
+
+    private static byte[] key(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private TodoResponse todo(Long id) {
+        return new TodoResponse(id, "Todo " + id, null, false, Priority.MEDIUM, null, null, null, null, 0L);
+    }
+}
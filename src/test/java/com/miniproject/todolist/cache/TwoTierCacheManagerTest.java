@@ -0,0 +1,288 @@
+package com.miniproject.todolist.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TwoTierCacheManagerTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private ConcurrentMapCacheManager remoteCacheManager;
+    private TwoTierCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        remoteCacheManager = new ConcurrentMapCacheManager("todos");
+        cacheManager = new TwoTierCacheManager(remoteCacheManager, redisTemplate, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void testGet_ServedFromLocalAfterFirstRemoteHit() {
+        // Arrange
+        remoteCacheManager.getCache("todos").put(1L, "todo-1");
+        Cache cache = cacheManager.getCache("todos");
+        cache.get(1L);
+
+        // Act
+        remoteCacheManager.getCache("todos").evict(1L);
+        Cache.ValueWrapper wrapper = cache.get(1L);
+
+        // Assert
+        assertNotNull(wrapper);
+        assertEquals("todo-1", wrapper.get());
+    }
+
+    @Test
+    void testPut_WritesRemoteAndPublishesInvalidation() {
+        // Arrange
+        Cache cache = cacheManager.getCache("todos");
+
+        // Act
+        cache.put(1L, "todo-1");
+
+        // Assert
+        assertEquals("todo-1", remoteCacheManager.getCache("todos").get(1L).get());
+        verify(redisTemplate, times(1))
+                .convertAndSend(eq(TwoTierCacheManager.INVALIDATION_CHANNEL), anyString());
+    }
+
+    @Test
+    void testOnMessage_FromOtherPod_EvictsLocalCopy() {
+        // Arrange
+        remoteCacheManager.getCache("todos").put(1L, "todo-1");
+        Cache cache = cacheManager.getCache("todos");
+        cache.get(1L);
+        remoteCacheManager.getCache("todos").put(1L, "todo-1-updated");
+
+        // Act
+        cacheManager.onMessage(message("other-pod\nE\ntodos\n1"), null);
+
+        // Assert
+        assertEquals("todo-1-updated", cache.get(1L).get());
+    }
+
+    @Test
+    void testOnMessage_OwnMessage_IsIgnored() {
+        // Arrange
+        Cache cache = cacheManager.getCache("todos");
+        cache.put(1L, "todo-1");
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(TwoTierCacheManager.INVALIDATION_CHANNEL), published.capture());
+        remoteCacheManager.getCache("todos").evict(1L);
+
+        // Act
+        cacheManager.onMessage(message(published.getValue()), null);
+
+        // Assert
+        assertEquals("todo-1", cache.get(1L).get());
+    }
+
+    @Test
+    void testGetWithLoader_ConcurrentMisses_ShareOneLoad() throws Exception {
+        // Arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        cacheManager = new TwoTierCacheManager(remoteCacheManager, redisTemplate, 100, Duration.ofMinutes(1),
+                CacheStampedeSettings.coalescingOnly(), meterRegistry);
+        Cache cache = cacheManager.getCache("todos");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> cache.get(1L, () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            release.await();
+            return "todo-1";
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // Act
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return "todo-1-second";
+        }));
+        while (meterRegistry.counter("todolist.cache.coalesced", "cache", "todos").count() < 1) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        // Assert
+        assertEquals("todo-1", first.get(5, TimeUnit.SECONDS));
+        assertEquals("todo-1", second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+        assertEquals("todo-1", remoteCacheManager.getCache("todos").get(1L).get());
+    }
+
+    @Test
+    void testGetWithLoader_PutWhileLoading_KeepsNewValue() throws Exception {
+        // Arrange
+        Cache cache = cacheManager.getCache("todos");
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> load = CompletableFuture.supplyAsync(() -> cache.get(1L, () -> {
+            loading.countDown();
+            release.await();
+            return "todo-1-stale";
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // Act
+        cache.put(1L, "todo-1-updated");
+        release.countDown();
+
+        // Assert
+        assertEquals("todo-1-stale", load.get(5, TimeUnit.SECONDS));
+        assertEquals("todo-1-updated", remoteCacheManager.getCache("todos").get(1L).get());
+        assertEquals("todo-1-updated", cache.get(1L).get());
+    }
+
+    @Test
+    void testGetWithLoader_InvalidatedBetweenRemoteReadAndLocalFill_DoesNotCacheLocally() {
+        // Arrange
+        AtomicBoolean invalidateOnRead = new AtomicBoolean(true);
+        remoteCacheManager = new ConcurrentMapCacheManager("todos") {
+            @Override
+            protected Cache createConcurrentMapCache(String name) {
+                return new ConcurrentMapCache(name, false) {
+                    @Override
+                    public ValueWrapper get(Object key) {
+                        ValueWrapper wrapper = super.get(key);
+                        if (invalidateOnRead.getAndSet(false)) {
+                            // Another pod's write and its invalidation land right after the Redis GET
+                            cacheManager.onMessage(message("other-pod\nE\ntodos\n" + key), null);
+                        }
+                        return wrapper;
+                    }
+                };
+            }
+        };
+        remoteCacheManager.getCache("todos").put(1L, "todo-1-old");
+        cacheManager = new TwoTierCacheManager(remoteCacheManager, redisTemplate, 100, Duration.ofMinutes(1));
+        Cache cache = cacheManager.getCache("todos");
+
+        // Act
+        String value = cache.get(1L, () -> "todo-1-loaded");
+        remoteCacheManager.getCache("todos").put(1L, "todo-1-new");
+
+        // Assert
+        assertEquals("todo-1-old", value);
+        assertEquals("todo-1-new", cache.get(1L).get());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testGetWithLoader_LeaseHeldElsewhere_UsesLeaseholdersValue() {
+        // Arrange
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        // Another instance holds the lease and stores its value while we wait
+        when(valueOperations.setIfAbsent(eq(TwoTierCacheManager.LEASE_PREFIX + "todos:1"), anyString(), any(Duration.class)))
+                .thenAnswer(invocation -> {
+                    remoteCacheManager.getCache("todos").put(1L, "todo-1-from-leaseholder");
+                    return false;
+                });
+        cacheManager = new TwoTierCacheManager(remoteCacheManager, redisTemplate, 100, Duration.ofMinutes(1),
+                new CacheStampedeSettings(Duration.ofSeconds(2), Duration.ofSeconds(1), 0), new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        String value = cacheManager.getCache("todos").get(1L, () -> {
+            loads.incrementAndGet();
+            return "todo-1";
+        });
+
+        // Assert
+        assertEquals("todo-1-from-leaseholder", value);
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    void testGetWithLoader_EntryAboutToExpire_RefreshesInBackground() throws Exception {
+        // Arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        cacheManager = new TwoTierCacheManager(remoteCacheManager, redisTemplate, 100, Duration.ofMinutes(1),
+                new CacheStampedeSettings(Duration.ZERO, Duration.ZERO, 1.0), meterRegistry) {
+            @Override
+            Duration timeToLive(String cacheName, Object key, Object value) {
+                return Duration.ZERO;
+            }
+        };
+        Cache cache = cacheManager.getCache("todos");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch refreshed = new CountDownLatch(2);
+        Callable<String> loader = () -> {
+            refreshed.countDown();
+            return "todo-1-v" + loads.incrementAndGet();
+        };
+        cache.get(1L, loader);
+
+        // Act
+        String value = cache.get(1L, loader);
+
+        // Assert
+        assertEquals("todo-1-v1", value);
+        assertTrue(refreshed.await(5, TimeUnit.SECONDS));
+        cacheManager.destroy();
+        assertTrue(cacheManager.refreshExecutor().awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals("todo-1-v2", remoteCacheManager.getCache("todos").get(1L).get());
+        assertEquals(1, meterRegistry.counter("todolist.cache.refreshes", "cache", "todos", "outcome", "success").count());
+    }
+
+    @Test
+    void testGet_RecordsHitsAndMissesPerTier() {
+        // Arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        cacheManager = new TwoTierCacheManager(remoteCacheManager, redisTemplate, 100, Duration.ofMinutes(1),
+                CacheStampedeSettings.coalescingOnly(), meterRegistry);
+        remoteCacheManager.getCache("todos").put(1L, "todo-1");
+        Cache cache = cacheManager.getCache("todos");
+
+        // Act
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(2L);
+
+        // Assert
+        assertEquals(1, meterRegistry.counter("todolist.cache.gets",
+                "cache", "todos", "tier", "local", "result", "hit").count());
+        assertEquals(2, meterRegistry.counter("todolist.cache.gets",
+                "cache", "todos", "tier", "local", "result", "miss").count());
+        assertEquals(1, meterRegistry.counter("todolist.cache.gets",
+                "cache", "todos", "tier", "remote", "result", "hit").count());
+        assertEquals(1, meterRegistry.counter("todolist.cache.gets",
+                "cache", "todos", "tier", "remote", "result", "miss").count());
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(
+                TwoTierCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
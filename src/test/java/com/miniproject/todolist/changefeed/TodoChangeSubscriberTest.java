@@ -0,0 +1,101 @@
+package com.miniproject.todolist.changefeed;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TodoChangeSubscriberTest {
+
+    @Test
+    void startLive_SendsReplayThenHeldEventsNotCoveredByIt() throws IOException {
+        // Arrange
+        SseEmitter emitter = mock(SseEmitter.class);
+        TodoChangeSubscriber subscriber = new TodoChangeSubscriber(emitter, 10, Runnable::run, s -> { });
+        subscriber.offer(5L, event("5"));
+        subscriber.offer(6L, event("6"));
+
+        // Act
+        subscriber.startLive(List.of(event("4"), event("5")), id -> id == 4 || id == 5);
+        subscriber.offer(7L, event("7"));
+
+        // Assert
+        assertEquals(List.of("4", "5", "6", "7"), sentIds(emitter));
+    }
+
+    @Test
+    void startLive_HeldEventCommittedBelowReplay_IsStillSent() throws IOException {
+        // Arrange
+        SseEmitter emitter = mock(SseEmitter.class);
+        TodoChangeSubscriber subscriber = new TodoChangeSubscriber(emitter, 10, Runnable::run, s -> { });
+        subscriber.offer(5L, event("5"));
+        subscriber.offer(6L, event("6"));
+
+        // Act
+        subscriber.startLive(List.of(event("4"), event("6")), id -> id == 4 || id == 6);
+
+        // Assert
+        assertEquals(List.of("4", "6", "5"), sentIds(emitter));
+    }
+
+    @Test
+    void offer_BufferFull_ClosesStreamAndReportsOverflow() {
+        // Arrange
+        SseEmitter emitter = mock(SseEmitter.class);
+        List<Runnable> stalledSends = new ArrayList<>();
+        AtomicInteger overflows = new AtomicInteger();
+        TodoChangeSubscriber subscriber = new TodoChangeSubscriber(emitter, 2, stalledSends::add,
+                s -> overflows.incrementAndGet());
+        subscriber.startLive(List.of(), id -> false);
+
+        // Act
+        subscriber.offer(1L, event("1"));
+        subscriber.offer(2L, event("2"));
+        subscriber.offer(3L, event("3"));
+        subscriber.offer(4L, event("4"));
+
+        // Assert
+        assertEquals(1, overflows.get());
+        assertEquals(1, stalledSends.size());
+        verify(emitter, times(1)).complete();
+    }
+
+    @Test
+    void offer_SendFails_StopsSending() throws IOException {
+        // Arrange
+        SseEmitter emitter = mock(SseEmitter.class);
+        doThrow(new IOException("Broken pipe")).when(emitter).send(anySet());
+        TodoChangeSubscriber subscriber = new TodoChangeSubscriber(emitter, 10, Runnable::run, s -> { });
+        subscriber.startLive(List.of(), id -> false);
+
+        // Act
+        subscriber.offer(1L, event("1"));
+        subscriber.offer(2L, event("2"));
+
+        // Assert
+        verify(emitter, times(1)).send(anySet());
+    }
+
+    private static Set<DataWithMediaType> event(String id) {
+        return SseEmitter.event().id(id).data("{}").build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> sentIds(SseEmitter emitter) throws IOException {
+        ArgumentCaptor<Set<DataWithMediaType>> captor = ArgumentCaptor.forClass(Set.class);
+        verify(emitter, atLeastOnce()).send(captor.capture());
+        return captor.getAllValues().stream()
+                .map(data -> data.iterator().next().getData().toString())
+                .map(text -> text.substring("id:".length(), text.indexOf('\n')))
+                .toList();
+    }
+}
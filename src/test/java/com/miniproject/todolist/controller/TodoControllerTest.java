@@ -0,0 +1,109 @@
+package com.miniproject.todolist.controller;
+
+import com.miniproject.todolist.cache.TodoJsonCache;
+import com.miniproject.todolist.changefeed.TodoChangeBroadcaster;
+import com.miniproject.todolist.dto.TagFilterPage;
+import com.miniproject.todolist.enums.TagMatch;
+import com.miniproject.todolist.export.TodoExportWriter;
+import com.miniproject.todolist.monitoring.RequestMetricsFilter;
+import com.miniproject.todolist.service.TodoImportService;
+import com.miniproject.todolist.service.TodoService;
+import com.miniproject.todolist.service.TodoStatsService;
+import com.miniproject.todolist.util.TodoETags;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = TodoController.class, excludeFilters = @ComponentScan.Filter(
+        type = FilterType.ASSIGNABLE_TYPE, classes = RequestMetricsFilter.class))
+class TodoControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TodoService todoService;
+
+    @MockitoBean
+    private TodoExportWriter todoExportWriter;
+
+    @MockitoBean
+    private TodoImportService todoImportService;
+
+    @MockitoBean
+    private TodoStatsService todoStatsService;
+
+    @MockitoBean
+    private TodoChangeBroadcaster todoChangeBroadcaster;
+
+    @MockitoBean
+    private TodoJsonCache todoJsonCache;
+
+    @Test
+    void filterByTags_WithoutMatch_DefaultsToAny() throws Exception {
+        // Arrange
+        when(todoService.filterByTags(any(), any(), any(), anyInt(), anyLong())).thenReturn(emptyPage());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/todos").param("tag", "work"))
+                .andExpect(status().isOk());
+        verify(todoService).filterByTags(eq(List.of("work")), eq(TagMatch.ANY), isNull(), eq(20), eq(0L));
+    }
+
+    @Test
+    void filterByTags_WithLowerCaseMatch_IsAccepted() throws Exception {
+        // Arrange
+        when(todoService.filterByTags(any(), any(), any(), anyInt(), anyLong())).thenReturn(emptyPage());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/todos").param("tag", "work").param("match", "any"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/todos").param("tag", "work", "urgent").param("match", "all"))
+                .andExpect(status().isOk());
+        verify(todoService).filterByTags(eq(List.of("work")), eq(TagMatch.ANY), isNull(), eq(20), eq(0L));
+        verify(todoService).filterByTags(eq(List.of("work", "urgent")), eq(TagMatch.ALL), isNull(), eq(20), eq(0L));
+    }
+
+    @Test
+    void filterByTags_WithUnknownMatch_ReturnsBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/todos").param("tag", "work").param("match", "some"))
+                .andExpect(status().isBadRequest());
+        verify(todoService, never()).filterByTags(any(), any(), any(), anyInt(), anyLong());
+    }
+
+    @Test
+    void filterByTags_ReadsGenerationOnceForETagAndPage() throws Exception {
+        // Arrange
+        when(todoService.getTodosGeneration()).thenReturn(42L);
+        when(todoService.filterByTags(any(), any(), any(), anyInt(), anyLong())).thenReturn(emptyPage());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/todos").param("tag", "work"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, TodoETags.ofGeneration(42L)));
+        verify(todoService, times(1)).getTodosGeneration();
+        verify(todoService).filterByTags(eq(List.of("work")), eq(TagMatch.ANY), isNull(), eq(20), eq(42L));
+    }
+
+    private static TagFilterPage emptyPage() {
+        return new TagFilterPage(List.of(), null, false, 0, List.of());
+    }
+}
@@ -0,0 +1,76 @@
+package com.miniproject.todolist.datasource;
+
+import com.miniproject.todolist.exception.DatabaseBulkheadFullException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkheadDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    private BulkheadDataSource bulkhead;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(target.getConnection()).thenReturn(connection);
+        bulkhead = new BulkheadDataSource(target, 1, Duration.ofMillis(10), Duration.ofSeconds(2));
+    }
+
+    @Test
+    void getConnection_WhenAllSlotsTaken_FailsFast() throws SQLException {
+        // Arrange
+        bulkhead.getConnection();
+
+        // Act
+        DatabaseBulkheadFullException ex = assertThrows(DatabaseBulkheadFullException.class, bulkhead::getConnection);
+
+        // Assert
+        assertEquals(Duration.ofSeconds(2), ex.getRetryAfter());
+        assertEquals(1, bulkhead.getRejections());
+        verify(target, times(1)).getConnection();
+    }
+
+    @Test
+    void close_ReleasesSlotExactlyOnce() throws SQLException {
+        // Arrange
+        Connection first = bulkhead.getConnection();
+
+        // Act
+        first.close();
+        first.close();
+        Connection second = bulkhead.getConnection();
+
+        // Assert
+        assertNotNull(second);
+        assertEquals(0, bulkhead.getAvailablePermits());
+        verify(connection, times(1)).close();
+    }
+
+    @Test
+    void getConnection_WhenTargetFails_ReleasesSlot() throws SQLException {
+        // Arrange
+        when(target.getConnection()).thenThrow(new SQLException("down"));
+
+        // Act
+        assertThrows(SQLException.class, bulkhead::getConnection);
+
+        // Assert
+        assertEquals(1, bulkhead.getAvailablePermits());
+    }
+}
@@ -0,0 +1,139 @@
+package com.miniproject.todolist.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private static final Instant NOW = Instant.parse("2025-11-26T10:00:00Z");
+
+    private ReadWriteRoutingDataSource routingDataSource;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        // Pools are never asked for a connection, so nothing is opened
+        PrimaryStickiness stickiness = new PrimaryStickiness(Duration.ofSeconds(5), Clock.fixed(NOW, ZoneOffset.UTC));
+        routingDataSource = new ReadWriteRoutingDataSource(new HikariDataSource(),
+                List.of(new HikariDataSource(), new HikariDataSource()), stickiness, new SimpleMeterRegistry());
+
+        request = new MockHttpServletRequest();
+        response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void readOnlyTransactions_RoundRobinAcrossReplicas() {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act & Assert
+        assertEquals("replica-0", routingDataSource.determineCurrentLookupKey());
+        assertEquals("replica-1", routingDataSource.determineCurrentLookupKey());
+        assertEquals("replica-0", routingDataSource.determineCurrentLookupKey());
+        assertNull(response.getCookie(PrimaryStickiness.COOKIE_NAME));
+    }
+
+    @Test
+    void writeTransaction_UsesPrimaryAndSetsStickyCookie() {
+        // Act
+        Object key = routingDataSource.determineCurrentLookupKey();
+
+        // Assert
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, key);
+        Cookie cookie = response.getCookie(PrimaryStickiness.COOKIE_NAME);
+        assertNotNull(cookie);
+        assertEquals(Long.toString(NOW.toEpochMilli() + 5000), cookie.getValue());
+    }
+
+    @Test
+    void readAfterWriteInSameRequest_StaysOnPrimary() {
+        // Arrange
+        routingDataSource.determineCurrentLookupKey();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        Object key = routingDataSource.determineCurrentLookupKey();
+
+        // Assert
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, key);
+    }
+
+    @Test
+    void readWithinStickyWindow_StaysOnPrimary() {
+        // Arrange
+        request.setCookies(new Cookie(PrimaryStickiness.COOKIE_NAME, Long.toString(NOW.toEpochMilli() + 2000)));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        Object key = routingDataSource.determineCurrentLookupKey();
+
+        // Assert
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, key);
+    }
+
+    @Test
+    void readWithExpiredOrForgedCookie_GoesToReplica() {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act & Assert
+        request.setCookies(new Cookie(PrimaryStickiness.COOKIE_NAME, Long.toString(NOW.toEpochMilli() - 1)));
+        assertEquals("replica-0", routingDataSource.determineCurrentLookupKey());
+
+        request.setCookies(new Cookie(PrimaryStickiness.COOKIE_NAME, Long.toString(NOW.toEpochMilli() + 3_600_000)));
+        assertEquals("replica-1", routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void primaryReadInReadOnlyTransaction_UsesPrimaryWithoutStickyCookie() {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        Object key = PrimaryReads.call(routingDataSource::determineCurrentLookupKey);
+
+        // Assert
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, key);
+        assertNull(response.getCookie(PrimaryStickiness.COOKIE_NAME));
+        assertEquals("replica-0", routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void decorateTargets_WrapsEveryPoolSeparately() {
+        // Act
+        routingDataSource.decorateTargets((key, pool) -> new BulkheadDataSource(pool, 10, Duration.ZERO, Duration.ZERO));
+        routingDataSource.afterPropertiesSet();
+
+        // Assert
+        assertEquals(3, routingDataSource.getResolvedDataSources().size());
+        assertTrue(routingDataSource.getResolvedDataSources().values().stream()
+                .allMatch(BulkheadDataSource.class::isInstance));
+        assertInstanceOf(BulkheadDataSource.class, routingDataSource.getResolvedDefaultDataSource());
+    }
+}
@@ -0,0 +1,78 @@
+package com.miniproject.todolist.export;
+
+import com.miniproject.todolist.config.JacksonConfig;
+import com.miniproject.todolist.dto.TodoResponse;
+import com.miniproject.todolist.enums.DataFormat;
+import com.miniproject.todolist.enums.Priority;
+import com.miniproject.todolist.service.TodoService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TodoExportWriterTest {
+
+    @Mock
+    private TodoService todoService;
+
+    private TodoExportWriter exportWriter;
+
+    @BeforeEach
+    void setUp() {
+        exportWriter = new TodoExportWriter(todoService, new JacksonConfig().jacksonBuilder());
+
+        LocalDateTime timestamp = LocalDateTime.of(2025, 11, 26, 10, 0);
+        TodoResponse first = new TodoResponse(1L, "Plain", null, false, Priority.LOW, null, null, timestamp, timestamp, 0L);
+        TodoResponse second = new TodoResponse(2L, "Say \"hi\", then leave", "line1\nline2", true, Priority.HIGH,
+                timestamp, "work,urgent", timestamp, timestamp, 0L);
+        doAnswer(invocation -> {
+            Consumer<TodoResponse> sink = invocation.getArgument(1);
+            sink.accept(first);
+            sink.accept(second);
+            return null;
+        }).when(todoService).exportTodos(isNull(), any());
+    }
+
+    @Test
+    void testWrite_Ndjson_OneObjectPerLine() throws Exception {
+        // Act
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        exportWriter.write(DataFormat.NDJSON, null, output);
+
+        // Assert
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        for (String line : lines) {
+            assertTrue(line.startsWith("{") && line.endsWith("}"), line);
+        }
+        assertTrue(lines[0].startsWith("{\"id\":1,"));
+        assertTrue(lines[1].startsWith("{\"id\":2,"));
+        assertTrue(lines[1].contains("\"createdAt\":\"2025-11-26T10:00:00\""));
+    }
+
+    @Test
+    void testWrite_Csv_EscapesQuotesCommasAndNewlines() throws Exception {
+        // Act
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        exportWriter.write(DataFormat.CSV, null, output);
+
+        // Assert
+        String csv = output.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.startsWith(TodoExportWriter.CSV_HEADER + "\n"));
+        assertTrue(csv.contains("1,Plain,,false,LOW,,,2025-11-26T10:00:00,2025-11-26T10:00:00\n"));
+        assertTrue(csv.contains("2,\"Say \"\"hi\"\", then leave\",\"line1\nline2\",true,HIGH,"));
+        assertTrue(csv.contains("true,HIGH,2025-11-26T10:00:00,\"work,urgent\","));
+    }
+}
@@ -0,0 +1,48 @@
+package com.miniproject.todolist.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowRequestRecorderTest {
+
+    @Test
+    void testSlowest_IgnoresFastRequestsAndSortsSlowestFirst() {
+        // Arrange
+        SlowRequestRecorder recorder = new SlowRequestRecorder(Duration.ofMillis(100), 10);
+        recorder.record(request("/api/v1/todos", 50, Instant.now()));
+        recorder.record(request("/api/v1/todos/{id}", 150, Instant.now()));
+        recorder.record(request("/api/v1/todos/search", 900, Instant.now()));
+
+        // Act
+        List<SlowRequest> slowest = recorder.slowest(Duration.ofMinutes(5), 20);
+
+        // Assert
+        assertEquals(List.of("/api/v1/todos/search", "/api/v1/todos/{id}"),
+                slowest.stream().map(SlowRequest::uri).toList());
+    }
+
+    @Test
+    void testSlowest_DropsOldestBeyondCapacityAndOutsideWindow() {
+        // Arrange
+        SlowRequestRecorder recorder = new SlowRequestRecorder(Duration.ofMillis(100), 2);
+        recorder.record(request("/expired", 5000, Instant.now().minus(Duration.ofHours(1))));
+        recorder.record(request("/first", 3000, Instant.now()));
+        recorder.record(request("/second", 200, Instant.now()));
+        recorder.record(request("/third", 300, Instant.now()));
+
+        // Act
+        List<SlowRequest> slowest = recorder.slowest(Duration.ofMinutes(5), 20);
+
+        // Assert
+        assertEquals(List.of("/third", "/second"), slowest.stream().map(SlowRequest::uri).toList());
+    }
+
+    private static SlowRequest request(String uri, long durationMillis, Instant finishedAt) {
+        return new SlowRequest(finishedAt, "GET", uri, uri, 200, durationMillis, 3);
+    }
+}
@@ -0,0 +1,152 @@
+package com.miniproject.todolist.repository;
+
+import com.miniproject.todolist.dto.TodoResponse;
+import com.miniproject.todolist.dto.TodoUpdateRequest;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that update and delete each cost exactly one statement, including the
+ * not-found and stale-version cases.
+ * <p>
+ * Needs the same PostgreSQL database as {@link TodoQueryPlanTest}, e.g.
+ * {@code TODOLIST_EXPLAIN_DB_URL=jdbc:postgresql://localhost:5434/todolist_db ./gradlew test}.
+ */
+@EnabledIfEnvironmentVariable(named = "TODOLIST_EXPLAIN_DB_URL", matches = ".+")
+class TodoMutationRepositoryImplTest {
+
+    private static final String SCHEMA = "todolist_mutation_test";
+
+    private static Connection connection;
+    private static SingleConnectionDataSource dataSource;
+    private static final AtomicInteger statements = new AtomicInteger();
+
+    private TodoMutationRepositoryImpl repository;
+    private long todoId;
+
+    @BeforeAll
+    static void migrate() throws SQLException {
+        String url = System.getenv("TODOLIST_EXPLAIN_DB_URL");
+        String user = System.getenv().getOrDefault("TODOLIST_EXPLAIN_DB_USER", "postgres");
+        String password = System.getenv().getOrDefault("TODOLIST_EXPLAIN_DB_PASSWORD", "postgres");
+
+        Flyway.configure()
+                .dataSource(url, user, password)
+                .schemas(SCHEMA)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(url, user, password);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET search_path TO " + SCHEMA + ", public");
+        }
+        dataSource = new SingleConnectionDataSource(countingStatements(connection), true);
+    }
+
+    @AfterAll
+    static void dropSchema() throws SQLException {
+        if (connection != null) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP SCHEMA " + SCHEMA + " CASCADE");
+            }
+            connection.close();
+        }
+    }
+
+    @BeforeEach
+    void insertTodo() throws SQLException {
+        repository = new TodoMutationRepositoryImpl(new NamedParameterJdbcTemplate(dataSource));
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("""
+                     INSERT INTO todos (title, description, completed, priority, tags, created_at, updated_at)
+                     VALUES ('Write report', 'Quarterly', false, 'MEDIUM', 'work', now(), now())
+                     RETURNING id
+                     """)) {
+            resultSet.next();
+            todoId = resultSet.getLong(1);
+        }
+        statements.set(0);
+    }
+
+    @Test
+    void updateReturning_OneStatementReturnsUpdatedRow() {
+        // Arrange
+        TodoUpdateRequest request = new TodoUpdateRequest();
+        request.setTitle("Write final report");
+
+        // Act
+        Optional<TodoResponse> updated = repository.updateReturning(todoId, request, 0L);
+
+        // Assert
+        assertEquals(1, statements.get());
+        assertTrue(updated.isPresent());
+        assertEquals("Write final report", updated.get().getTitle());
+        assertEquals("Quarterly", updated.get().getDescription());
+        assertEquals(1L, updated.get().getVersion());
+    }
+
+    @Test
+    void updateReturning_MissingOrStale_OneStatementReturnsEmpty() {
+        // Arrange
+        TodoUpdateRequest request = new TodoUpdateRequest();
+        request.setCompleted(true);
+
+        // Act
+        Optional<TodoResponse> stale = repository.updateReturning(todoId, request, 7L);
+        Optional<TodoResponse> missing = repository.updateReturning(-1L, request, null);
+
+        // Assert
+        assertEquals(2, statements.get());
+        assertTrue(stale.isEmpty());
+        assertTrue(missing.isEmpty());
+    }
+
+    @Test
+    void deleteReturningId_OneStatementPerCall() {
+        // Act
+        boolean stale = repository.deleteReturningId(todoId, 7L);
+        boolean deleted = repository.deleteReturningId(todoId, 0L);
+        boolean missing = repository.deleteReturningId(todoId, null);
+
+        // Assert
+        assertEquals(3, statements.get());
+        assertFalse(stale);
+        assertTrue(deleted);
+        assertFalse(missing);
+    }
+
+    private static Connection countingStatements(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("prepare") || method.getName().equals("createStatement")) {
+                        statements.incrementAndGet();
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
@@ -0,0 +1,138 @@
+package com.miniproject.todolist.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that every query shape of GET /api/v1/todos/query is served by an index.
+ * <p>
+ * Needs a PostgreSQL database it may create a scratch schema in, e.g.
+ * {@code TODOLIST_EXPLAIN_DB_URL=jdbc:postgresql://localhost:5434/todolist_db ./gradlew test}.
+ * The SQL mirrors what Hibernate renders for {@link TodoSpecifications}: the completion
+ * flag as a literal, priorities, dates and the page size as bind parameters. Each shape is
+ * prepared and explained with a forced generic plan, so the index has to be usable without
+ * knowing the parameter values.
+ */
+@EnabledIfEnvironmentVariable(named = "TODOLIST_EXPLAIN_DB_URL", matches = ".+")
+class TodoQueryPlanTest {
+
+    private static final String SCHEMA = "todolist_explain_test";
+
+    private static final String SELECT_RESPONSE = "SELECT id, title, description, completed, priority, due_date, tags, "
+            + "created_at, updated_at, version FROM todos ";
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        String url = System.getenv("TODOLIST_EXPLAIN_DB_URL");
+        String user = System.getenv().getOrDefault("TODOLIST_EXPLAIN_DB_USER", "postgres");
+        String password = System.getenv().getOrDefault("TODOLIST_EXPLAIN_DB_PASSWORD", "postgres");
+
+        Flyway.configure()
+                .dataSource(url, user, password)
+                .schemas(SCHEMA)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(url, user, password);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET search_path TO " + SCHEMA + ", public");
+            // 200k rows: 80% completed, priorities evenly spread, due dates over a year
+            statement.execute("""
+                    INSERT INTO todos (title, completed, priority, due_date, created_at, updated_at)
+                    SELECT 'Todo ' || g,
+                           g % 5 <> 0,
+                           (ARRAY['LOW', 'MEDIUM', 'HIGH'])[1 + g % 3],
+                           TIMESTAMP '2025-01-01' + (g % 365) * INTERVAL '1 day',
+                           TIMESTAMP '2024-01-01' + g * INTERVAL '1 minute',
+                           now()
+                    FROM generate_series(1, 200000) AS g
+                    """);
+            statement.execute("ANALYZE todos");
+        }
+    }
+
+    @AfterAll
+    static void dropSchema() throws SQLException {
+        if (connection != null) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP SCHEMA " + SCHEMA + " CASCADE");
+            }
+            connection.close();
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource(delimiter = '|', quoteCharacter = '"', value = {
+            "open, HIGH, due before X, by due date"
+                    + "|WHERE completed = false AND priority IN ($1) AND due_date < $2 ORDER BY due_date ASC, id ASC"
+                    + "|'HIGH', '2025-03-01'"
+                    + "|idx_todos_open_priority_due_date",
+            "open by due date"
+                    + "|WHERE completed = false ORDER BY due_date ASC, id ASC"
+                    + "|"
+                    + "|idx_todos_open_due_date",
+            "open, due in range"
+                    + "|WHERE completed = false AND due_date >= $1 AND due_date < $2 ORDER BY due_date ASC, id ASC"
+                    + "|'2025-06-01', '2025-06-08'"
+                    + "|idx_todos_open_due_date",
+            "completed, created range, newest first"
+                    + "|WHERE completed = true AND created_at >= $1 AND created_at < $2 ORDER BY created_at DESC, id DESC"
+                    + "|'2024-03-01', '2024-03-02'"
+                    + "|idx_todos_completed_created_at_id",
+            "priority, newest first"
+                    + "|WHERE priority IN ($1) ORDER BY created_at DESC, id DESC"
+                    + "|'LOW'"
+                    + "|idx_todos_priority_created_at_id",
+            "due range, by due date"
+                    + "|WHERE due_date >= $1 AND due_date < $2 ORDER BY due_date ASC, id ASC"
+                    + "|'2025-06-01', '2025-06-02'"
+                    + "|idx_todos_due_date"
+    })
+    void queryShape_UsesExpectedIndex(String shape, String clauses, String arguments, String expectedIndex)
+            throws SQLException {
+        // Arrange
+        int limitParameter = arguments == null ? 1 : arguments.split(",").length + 1;
+        String sql = SELECT_RESPONSE + clauses + " OFFSET 0 ROWS FETCH FIRST $" + limitParameter + " ROWS ONLY";
+        String values = arguments == null ? "20" : arguments + ", 20";
+
+        // Act
+        String plan = explainGenericPlan(sql, values);
+
+        // Assert
+        assertTrue(plan.contains(expectedIndex), () -> shape + " should use " + expectedIndex + ":\n" + plan);
+        assertFalse(plan.contains("Seq Scan"), () -> shape + " should not scan the table:\n" + plan);
+    }
+
+    // The plan a prepared statement settles on once Postgres stops planning per value
+    private static String explainGenericPlan(String sql, String values) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET plan_cache_mode = force_generic_plan");
+            statement.execute("PREPARE todo_query AS " + sql);
+            try (ResultSet resultSet = statement.executeQuery("EXPLAIN EXECUTE todo_query(" + values + ")")) {
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+            } finally {
+                statement.execute("DEALLOCATE todo_query");
+                statement.execute("RESET plan_cache_mode");
+            }
+        }
+        return plan.toString();
+    }
+}
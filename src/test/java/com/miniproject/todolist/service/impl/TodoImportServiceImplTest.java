@@ -0,0 +1,61 @@
+package com.miniproject.todolist.service.impl;
+
+import com.miniproject.todolist.dto.TodoCreateRequest;
+import com.miniproject.todolist.enums.Priority;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoImportServiceImplTest {
+
+    private static final Map<String, Integer> COLUMNS = Map.of(
+            "title", 0, "description", 1, "completed", 2, "priority", 3, "dueDate", 4, "tags", 5);
+
+    @Test
+    void toCreateRequest_MapsColumnsByHeaderName() {
+        // Arrange
+        List<String> record = List.of("Buy milk", "", "TRUE", "high", "2025-12-31T23:59:59", "home");
+
+        // Act
+        TodoCreateRequest request = TodoImportServiceImpl.toCreateRequest(record, COLUMNS);
+
+        // Assert
+        assertEquals("Buy milk", request.getTitle());
+        assertNull(request.getDescription());
+        assertTrue(request.getCompleted());
+        assertEquals(Priority.HIGH, request.getPriority());
+        assertEquals(LocalDateTime.of(2025, 12, 31, 23, 59, 59), request.getDueDate());
+        assertEquals("home", request.getTags());
+    }
+
+    @Test
+    void toCreateRequest_RejectsUnknownPriority() {
+        // Arrange
+        List<String> record = List.of("Buy milk", "", "", "URGENT", "", "");
+
+        // Act
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> TodoImportServiceImpl.toCreateRequest(record, COLUMNS));
+
+        // Assert
+        assertTrue(ex.getMessage().startsWith("priority:"));
+    }
+
+    @Test
+    void appendCopyText_EscapesCopyControlCharacters() {
+        // Arrange
+        StringBuilder out = new StringBuilder();
+
+        // Act
+        TodoImportServiceImpl.appendCopyText(out, "a\\b\tc\nd\re");
+        out.append('|');
+        TodoImportServiceImpl.appendCopyText(out, null);
+
+        // Assert
+        assertEquals("a\\\\b\\tc\\nd\\re|\\N", out.toString());
+    }
+}
@@ -0,0 +1,189 @@
+package com.miniproject.todolist.service.impl;
+
+import com.miniproject.todolist.cache.CachedTodoJson;
+import com.miniproject.todolist.cache.TodoJsonCache;
+import com.miniproject.todolist.cache.TodoMultiGetCache;
+import com.miniproject.todolist.cache.TodoPageCache;
+import com.miniproject.todolist.dto.TodoBatchOperation;
+import com.miniproject.todolist.dto.TodoBatchRequest;
+import com.miniproject.todolist.dto.TodoCreateRequest;
+import com.miniproject.todolist.dto.TodoResponse;
+import com.miniproject.todolist.dto.TodoUpdateRequest;
+import com.miniproject.todolist.entity.Todo;
+import com.miniproject.todolist.enums.BatchOperationType;
+import com.miniproject.todolist.enums.Priority;
+import com.miniproject.todolist.repository.TodoRepository;
+import com.miniproject.todolist.service.TodoService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig
+class TodoServiceImplCachingTest {
+
+    @Configuration
+    @EnableCaching
+    static class CachingTestConfig {
+
+        @Bean
+        public TodoRepository todoRepository() {
+            return mock(TodoRepository.class);
+        }
+
+        @Bean
+        public CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager("todos", TodoJsonCache.TODOS_JSON);
+        }
+
+        @Bean
+        public TodoPageCache todoPageCache() {
+            return mock(TodoPageCache.class);
+        }
+
+        @Bean
+        public TodoService todoService(TodoRepository todoRepository,
+                                       TodoPageCache todoPageCache,
+                                       CacheManager cacheManager) {
+            return new TodoServiceImpl(todoRepository, todoPageCache, cacheManager, mock(TodoMultiGetCache.class));
+        }
+    }
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Cache todosCache;
+
+    @BeforeEach
+    void setUp() {
+        reset(todoRepository);
+        todosCache = cacheManager.getCache("todos");
+        todosCache.clear();
+
+        when(todoRepository.findById(1L)).thenReturn(Optional.of(todo(1L, "First")));
+        when(todoRepository.findResponseById(1L)).thenReturn(Optional.of(response(1L, "First")));
+        when(todoRepository.findResponseById(2L)).thenReturn(Optional.of(response(2L, "Second")));
+        todoService.getTodoById(1L);
+        todoService.getTodoById(2L);
+    }
+
+    @Test
+    void testCreateTodo_LeavesCachedEntriesIntact() {
+        // Arrange
+        TodoCreateRequest request = new TodoCreateRequest();
+        request.setTitle("Third");
+        when(todoRepository.save(any(Todo.class))).thenReturn(todo(3L, "Third"));
+
+        // Act
+        todoService.createTodo(request);
+
+        // Assert
+        assertNotNull(todosCache.get(1L));
+        assertNotNull(todosCache.get(2L));
+        assertNull(todosCache.get(3L));
+    }
+
+    @Test
+    void testUpdateTodo_PutsFreshEntryAndKeepsUnrelatedEntries() {
+        // Arrange
+        TodoUpdateRequest request = new TodoUpdateRequest();
+        request.setTitle("First - Updated");
+        when(todoRepository.updateReturning(1L, request, null)).thenReturn(Optional.of(response(1L, "First - Updated")));
+
+        // Act
+        todoService.updateTodo(1L, request, null);
+        TodoResponse first = todoService.getTodoById(1L);
+        TodoResponse second = todoService.getTodoById(2L);
+
+        // Assert
+        assertEquals("First - Updated", first.getTitle());
+        assertEquals("Second", second.getTitle());
+        verify(todoRepository, times(1)).findResponseById(2L);
+    }
+
+    @Test
+    void testUpdateTodo_EvictsCachedJsonResponse() {
+        // Arrange
+        Cache jsonCache = cacheManager.getCache(TodoJsonCache.TODOS_JSON);
+        jsonCache.put(1L, new CachedTodoJson("\"1-0\"", 0L, new byte[0]));
+        jsonCache.put(2L, new CachedTodoJson("\"2-0\"", 0L, new byte[0]));
+        TodoUpdateRequest request = new TodoUpdateRequest();
+        request.setCompleted(true);
+        when(todoRepository.updateReturning(1L, request, null)).thenReturn(Optional.of(response(1L, "First")));
+
+        // Act
+        todoService.updateTodo(1L, request, null);
+
+        // Assert
+        assertNull(jsonCache.get(1L));
+        assertNotNull(jsonCache.get(2L));
+    }
+
+    @Test
+    void testDeleteTodo_EvictsOnlyThatEntry() {
+        // Arrange
+        when(todoRepository.deleteReturningId(1L, null)).thenReturn(true);
+
+        // Act
+        todoService.deleteTodo(1L, null);
+
+        // Assert
+        assertNull(todosCache.get(1L));
+        assertNotNull(todosCache.get(2L));
+        todoService.getTodoById(2L);
+        verify(todoRepository, times(1)).findResponseById(2L);
+    }
+
+    @Test
+    void testExecuteBatch_TouchesOnlyAffectedEntries() {
+        // Arrange
+        TodoUpdateRequest update = new TodoUpdateRequest();
+        update.setTitle("First - Batched");
+        when(todoRepository.findAllById(any())).thenReturn(List.of(todo(1L, "First")));
+
+        // Act
+        todoService.executeBatch(new TodoBatchRequest(List.of(
+                new TodoBatchOperation(BatchOperationType.UPDATE, 1L, null, update))));
+
+        // Assert
+        assertEquals("First - Batched", ((TodoResponse) todosCache.get(1L).get()).getTitle());
+        assertEquals("Second", ((TodoResponse) todosCache.get(2L).get()).getTitle());
+    }
+
+    private static Todo todo(Long id, String title) {
+        Todo todo = new Todo();
+        todo.setId(id);
+        todo.setTitle(title);
+        todo.setCompleted(false);
+        todo.setPriority(Priority.MEDIUM);
+        todo.setCreatedAt(LocalDateTime.now());
+        todo.setUpdatedAt(LocalDateTime.now());
+        return todo;
+    }
+
+    private static TodoResponse response(Long id, String title) {
+        Todo todo = todo(id, title);
+        return new TodoResponse(todo.getId(), todo.getTitle(), null, todo.getCompleted(), todo.getPriority(),
+                null, null, todo.getCreatedAt(), todo.getUpdatedAt(), todo.getVersion());
+    }
+}
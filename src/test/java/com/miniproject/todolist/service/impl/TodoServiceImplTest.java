@@ -1,26 +1,51 @@
 package com.miniproject.todolist.service.impl;
 
+import com.miniproject.todolist.cache.TodoMultiGetCache;
+import com.miniproject.todolist.cache.TodoPageCache;
+import com.miniproject.todolist.dto.CursorPage;
+import com.miniproject.todolist.dto.TagFilterPage;
+import com.miniproject.todolist.dto.TodoBatchOperation;
+import com.miniproject.todolist.dto.TodoBatchRequest;
+import com.miniproject.todolist.dto.TodoBatchResponse;
 import com.miniproject.todolist.dto.TodoCreateRequest;
+import com.miniproject.todolist.dto.TodoLookupResult;
+import com.miniproject.todolist.dto.TodoQuery;
 import com.miniproject.todolist.dto.TodoResponse;
 import com.miniproject.todolist.dto.TodoUpdateRequest;
 import com.miniproject.todolist.entity.Todo;
+import com.miniproject.todolist.enums.BatchOperationType;
 import com.miniproject.todolist.enums.Priority;
+import com.miniproject.todolist.enums.TagMatch;
+import com.miniproject.todolist.enums.TodoSortKey;
+import com.miniproject.todolist.exception.InvalidCursorException;
+import com.miniproject.todolist.exception.TodoLookupTooLargeException;
 import com.miniproject.todolist.exception.TodoNotFoundException;
+import com.miniproject.todolist.exception.TodoVersionMismatchException;
 import com.miniproject.todolist.repository.TodoRepository;
+import com.miniproject.todolist.util.TodoCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -33,15 +58,28 @@ class TodoServiceImplTest {
     @Mock
     private TodoRepository todoRepository;
 
+    @Mock
+    private TodoPageCache todoPageCache;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private TodoMultiGetCache todoMultiGetCache;
+
     @InjectMocks
     private TodoServiceImpl todoService;
 
     private Todo mockTodo;
+    private TodoResponse mockResponse;
     private TodoCreateRequest createRequest;
     private TodoUpdateRequest updateRequest;
 
     @BeforeEach
     void setUp() {
+        lenient().when(todoPageCache.get(anyString(), anyLong(), anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Callable<?>>getArgument(3).call());
+
         mockTodo = new Todo();
         mockTodo.setId(1L);
         mockTodo.setTitle("Test Todo");
@@ -53,6 +91,10 @@ class TodoServiceImplTest {
         mockTodo.setCreatedAt(LocalDateTime.now());
         mockTodo.setUpdatedAt(LocalDateTime.now());
 
+        mockResponse = new TodoResponse(mockTodo.getId(), mockTodo.getTitle(), mockTodo.getDescription(),
+                mockTodo.getCompleted(), mockTodo.getPriority(), mockTodo.getDueDate(), mockTodo.getTags(),
+                mockTodo.getCreatedAt(), mockTodo.getUpdatedAt(), mockTodo.getVersion());
+
         createRequest = new TodoCreateRequest();
         createRequest.setTitle("New Todo");
         createRequest.setDescription("New Description");
@@ -101,7 +143,7 @@ class TodoServiceImplTest {
     @Test
     void testGetTodoById_Found() {
         // Arrange
-        when(todoRepository.findById(1L)).thenReturn(Optional.of(mockTodo));
+        when(todoRepository.findResponseById(1L)).thenReturn(Optional.of(mockResponse));
 
         // Act
         TodoResponse response = todoService.getTodoById(1L);
@@ -111,63 +153,94 @@ class TodoServiceImplTest {
         assertEquals(mockTodo.getId(), response.getId());
         assertEquals(mockTodo.getTitle(), response.getTitle());
         assertEquals(mockTodo.getDescription(), response.getDescription());
-        verify(todoRepository, times(1)).findById(1L);
+        verify(todoRepository, times(1)).findResponseById(1L);
+        verify(todoRepository, never()).findById(anyLong());
     }
 
     @Test
     void testGetTodoById_NotFound_ThrowsException() {
         // Arrange
-        when(todoRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(todoRepository.findResponseById(anyLong())).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(TodoNotFoundException.class, () -> {
             todoService.getTodoById(999L);
         });
-        verify(todoRepository, times(1)).findById(999L);
+        verify(todoRepository, times(1)).findResponseById(999L);
     }
 
     @Test
     void testGetAllTodos_Success() {
         // Arrange
-        Page<Todo> todoPage = new PageImpl<>(Arrays.asList(mockTodo));
-        when(todoRepository.findAll(any(Pageable.class))).thenReturn(todoPage);
+        Page<TodoResponse> todoPage = new PageImpl<>(Arrays.asList(mockResponse));
+        when(todoRepository.findAllResponses(any(Pageable.class))).thenReturn(todoPage);
 
         // Act
-        Page<TodoResponse> response = todoService.getAllTodos(0, 10);
+        Page<TodoResponse> response = todoService.getAllTodos(0, 10, 7L);
 
         // Assert
         assertNotNull(response);
         assertEquals(1, response.getTotalElements());
         assertEquals(mockTodo.getTitle(), response.getContent().get(0).getTitle());
-        verify(todoRepository, times(1)).findAll(any(Pageable.class));
+        verify(todoRepository, times(1)).findAllResponses(any(Pageable.class));
+        verify(todoPageCache, times(1)).get(eq(TodoPageCache.TODOS_LIST), eq(7L), eq("0:10"), any());
+    }
+
+    @Test
+    void testGetTodosByIds_RequestOrderWithNotFoundMarkers() {
+        // Arrange
+        TodoResponse second = new TodoResponse(2L, "Second", null, false, Priority.LOW,
+                null, null, null, null, 0L);
+        when(todoMultiGetCache.getAll(eq(new LinkedHashSet<>(List.of(2L, 9L, 1L))), any()))
+                .thenReturn(Map.of(1L, mockResponse, 2L, second));
+
+        // Act
+        List<TodoLookupResult> results = todoService.getTodosByIds(List.of(2L, 9L, 1L, 2L));
+
+        // Assert
+        assertEquals(List.of(2L, 9L, 1L, 2L), results.stream().map(TodoLookupResult::getId).toList());
+        assertEquals(List.of(200, 404, 200, 200), results.stream().map(TodoLookupResult::getStatus).toList());
+        assertNull(results.get(1).getTodo());
+        assertSame(mockResponse, results.get(2).getTodo());
+        verify(todoMultiGetCache, times(1)).getAll(any(), any());
+    }
+
+    @Test
+    void testGetTodosByIds_TooManyIds_Throws() {
+        // Arrange
+        List<Long> ids = LongStream.rangeClosed(1, TodoServiceImpl.MAX_LOOKUP_IDS + 1).boxed().toList();
+
+        // Act & Assert
+        assertThrows(TodoLookupTooLargeException.class, () -> todoService.getTodosByIds(ids));
+        verifyNoInteractions(todoMultiGetCache);
     }
 
     @Test
     void testUpdateTodo_Success() {
         // Arrange
-        when(todoRepository.findById(1L)).thenReturn(Optional.of(mockTodo));
-        when(todoRepository.save(any(Todo.class))).thenReturn(mockTodo);
+        when(todoRepository.updateReturning(1L, updateRequest, null)).thenReturn(Optional.of(mockResponse));
 
         // Act
-        TodoResponse response = todoService.updateTodo(1L, updateRequest);
+        TodoResponse response = todoService.updateTodo(1L, updateRequest, null);
 
         // Assert
-        assertNotNull(response);
-        verify(todoRepository, times(1)).findById(1L);
-        verify(todoRepository, times(1)).save(any(Todo.class));
+        assertSame(mockResponse, response);
+        verify(todoRepository, times(1)).updateReturning(1L, updateRequest, null);
+        verify(todoPageCache, times(1)).bumpGeneration();
+        verifyNoMoreInteractions(todoRepository);
     }
 
     @Test
     void testUpdateTodo_NotFound_ThrowsException() {
         // Arrange
-        when(todoRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(todoRepository.updateReturning(999L, updateRequest, null)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(TodoNotFoundException.class, () -> {
-            todoService.updateTodo(999L, updateRequest);
+            todoService.updateTodo(999L, updateRequest, null);
         });
-        verify(todoRepository, times(1)).findById(999L);
-        verify(todoRepository, never()).save(any(Todo.class));
+        verify(todoRepository, never()).existsById(anyLong());
+        verify(todoPageCache, never()).bumpGeneration();
     }
 
     @Test
@@ -177,72 +250,318 @@ class TodoServiceImplTest {
         partialUpdate.setTitle("Only Title Updated");
         // Other fields are null - should not update
 
-        when(todoRepository.findById(1L)).thenReturn(Optional.of(mockTodo));
-        when(todoRepository.save(any(Todo.class))).thenReturn(mockTodo);
+        when(todoRepository.updateReturning(1L, partialUpdate, null)).thenReturn(Optional.of(mockResponse));
 
         // Act
-        TodoResponse response = todoService.updateTodo(1L, partialUpdate);
+        TodoResponse response = todoService.updateTodo(1L, partialUpdate, null);
 
         // Assert
         assertNotNull(response);
-        verify(todoRepository, times(1)).save(any(Todo.class));
+        verify(todoRepository, never()).findById(anyLong());
+        verify(todoRepository, never()).save(any(Todo.class));
     }
 
     @Test
     void testDeleteTodo_Success() {
         // Arrange
-        when(todoRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(todoRepository).deleteById(1L);
+        when(todoRepository.deleteReturningId(1L, null)).thenReturn(true);
 
         // Act
-        todoService.deleteTodo(1L);
+        todoService.deleteTodo(1L, null);
 
         // Assert
-        verify(todoRepository, times(1)).existsById(1L);
-        verify(todoRepository, times(1)).deleteById(1L);
+        verify(todoRepository, times(1)).deleteReturningId(1L, null);
+        verify(todoPageCache, times(1)).bumpGeneration();
+        verifyNoMoreInteractions(todoRepository);
     }
 
     @Test
     void testDeleteTodo_NotFound_ThrowsException() {
         // Arrange
-        when(todoRepository.existsById(anyLong())).thenReturn(false);
+        when(todoRepository.deleteReturningId(999L, null)).thenReturn(false);
 
         // Act & Assert
         assertThrows(TodoNotFoundException.class, () -> {
-            todoService.deleteTodo(999L);
+            todoService.deleteTodo(999L, null);
         });
-        verify(todoRepository, times(1)).existsById(999L);
-        verify(todoRepository, never()).deleteById(anyLong());
+        verify(todoRepository, never()).existsById(anyLong());
+        verify(todoPageCache, never()).bumpGeneration();
+    }
+
+    @Test
+    void testUpdateTodo_StaleIfMatchVersion_ThrowsVersionMismatch() {
+        // Arrange
+        when(todoRepository.updateReturning(1L, updateRequest, 3L)).thenReturn(Optional.empty());
+        when(todoRepository.existsById(1L)).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(TodoVersionMismatchException.class, () -> todoService.updateTodo(1L, updateRequest, 3L));
+        verify(todoPageCache, never()).bumpGeneration();
+    }
+
+    @Test
+    void testDeleteTodo_WithIfMatchVersion_DeletesInOneStatement() {
+        // Arrange
+        when(todoRepository.deleteReturningId(1L, 3L)).thenReturn(true);
+
+        // Act
+        todoService.deleteTodo(1L, 3L);
+
+        // Assert
+        verify(todoRepository, times(1)).deleteReturningId(1L, 3L);
+        verify(todoPageCache, times(1)).bumpGeneration();
+        verifyNoMoreInteractions(todoRepository);
+    }
+
+    @Test
+    void testDeleteTodo_WithStaleIfMatchVersion_ThrowsVersionMismatch() {
+        // Arrange
+        when(todoRepository.deleteReturningId(1L, 3L)).thenReturn(false);
+        when(todoRepository.existsById(1L)).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(TodoVersionMismatchException.class, () -> todoService.deleteTodo(1L, 3L));
+        verify(todoPageCache, never()).bumpGeneration();
+    }
+
+    @Test
+    void testDeleteTodo_WithIfMatchVersionOnMissingTodo_ThrowsNotFound() {
+        // Arrange
+        when(todoRepository.deleteReturningId(999L, 3L)).thenReturn(false);
+        when(todoRepository.existsById(999L)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(TodoNotFoundException.class, () -> todoService.deleteTodo(999L, 3L));
     }
 
     @Test
     void testFilterByCompleted_Success() {
         // Arrange
-        Page<Todo> todoPage = new PageImpl<>(Arrays.asList(mockTodo));
-        when(todoRepository.findByCompleted(anyBoolean(), any(Pageable.class))).thenReturn(todoPage);
+        Page<TodoResponse> todoPage = new PageImpl<>(Arrays.asList(mockResponse));
+        when(todoRepository.findResponsesByCompleted(anyBoolean(), any(Pageable.class))).thenReturn(todoPage);
 
         // Act
-        Page<TodoResponse> response = todoService.filterByCompleted(false, 0, 10);
+        Page<TodoResponse> response = todoService.filterByCompleted(false, 0, 10, 7L);
 
         // Assert
         assertNotNull(response);
         assertEquals(1, response.getTotalElements());
-        verify(todoRepository, times(1)).findByCompleted(eq(false), any(Pageable.class));
+        verify(todoRepository, times(1)).findResponsesByCompleted(eq(false), any(Pageable.class));
     }
 
     @Test
     void testSearchByTitle_Success() {
         // Arrange
-        Page<Todo> todoPage = new PageImpl<>(Arrays.asList(mockTodo));
-        when(todoRepository.findByTitleContainingIgnoreCase(anyString(), any(Pageable.class))).thenReturn(todoPage);
+        Page<TodoResponse> todoPage = new PageImpl<>(Arrays.asList(mockResponse));
+        when(todoRepository.searchByTitle(anyString(), any(Pageable.class))).thenReturn(todoPage);
 
         // Act
-        Page<TodoResponse> response = todoService.searchByTitle("Test", 0, 10);
+        Page<TodoResponse> response = todoService.searchByTitle("Test", 0, 10, 7L);
 
         // Assert
         assertNotNull(response);
         assertEquals(1, response.getTotalElements());
         assertEquals("Test Todo", response.getContent().get(0).getTitle());
-        verify(todoRepository, times(1)).findByTitleContainingIgnoreCase(eq("Test"), any(Pageable.class));
+        verify(todoRepository, times(1)).searchByTitle(eq("Test"), any(Pageable.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testQueryTodos_SortsByRequestedKeyWithIdTieBreaker() {
+        // Arrange
+        TodoQuery query = new TodoQuery();
+        query.setCompleted(false);
+        query.setPriority(List.of(Priority.HIGH));
+        query.setDueBefore(LocalDateTime.now().plusDays(7));
+        query.setSort(TodoSortKey.DUE_DATE);
+        query.setDirection(Sort.Direction.ASC);
+        when(todoRepository.findResponses(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(mockResponse)));
+
+        // Act
+        Page<TodoResponse> response = todoService.queryTodos(query, 7L);
+
+        // Assert
+        assertEquals(1, response.getContent().size());
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(todoRepository).findResponses(any(Specification.class), pageable.capture());
+        assertEquals(Sort.by(Sort.Direction.ASC, "dueDate", "id"), pageable.getValue().getSort());
+        assertEquals(20, pageable.getValue().getPageSize());
+        verify(todoPageCache).get(eq(TodoPageCache.TODOS_FILTERED), eq(7L), startsWith("query:"), any());
+    }
+
+    @Test
+    void testScrollAllTodos_FirstSlice_ReturnsNextCursor() {
+        // Arrange
+        TodoResponse older = new TodoResponse();
+        older.setId(2L);
+        older.setTitle("Older Todo");
+        older.setCreatedAt(mockTodo.getCreatedAt().minusMinutes(1));
+        when(todoRepository.findFirstSlice(any(Pageable.class))).thenReturn(List.of(mockResponse, older));
+
+        // Act
+        CursorPage<TodoResponse> response = todoService.scrollAllTodos(null, 1, 7L);
+
+        // Assert
+        assertTrue(response.isHasNext());
+        assertEquals(1, response.getSize());
+        assertEquals(mockTodo.getId(), response.getContent().get(0).getId());
+        TodoCursor cursor = TodoCursor.decode(response.getNextCursor());
+        assertEquals(mockTodo.getCreatedAt(), cursor.createdAt());
+        assertEquals(mockTodo.getId(), cursor.id());
+        verify(todoRepository, times(1)).findFirstSlice(PageRequest.ofSize(2));
+    }
+
+    @Test
+    void testScrollAllTodos_AfterCursor_LastSlice() {
+        // Arrange
+        TodoCursor cursor = new TodoCursor(LocalDateTime.now(), 5L);
+        when(todoRepository.findSliceAfter(eq(cursor.createdAt()), eq(5L), any(Pageable.class)))
+                .thenReturn(List.of(mockResponse));
+
+        // Act
+        CursorPage<TodoResponse> response = todoService.scrollAllTodos(cursor.encode(), 20, 7L);
+
+        // Assert
+        assertFalse(response.isHasNext());
+        assertNull(response.getNextCursor());
+        assertEquals(1, response.getContent().size());
+        verify(todoRepository, never()).findAllResponses(any(Pageable.class));
+    }
+
+    @Test
+    void testScrollAllTodos_InvalidCursor_ThrowsException() {
+        // Act & Assert
+        assertThrows(InvalidCursorException.class, () -> {
+            todoService.scrollAllTodos("not-a-cursor", 20, 7L);
+        });
+        verifyNoInteractions(todoRepository);
+    }
+
+    @Test
+    void testScrollByTitle_EscapesLikeWildcards() {
+        // Arrange
+        when(todoRepository.findFirstSliceByTitle(anyString(), any(Pageable.class))).thenReturn(List.of(mockResponse));
+
+        // Act
+        CursorPage<TodoResponse> response = todoService.scrollByTitle("100%_done!", null, 20, 7L);
+
+        // Assert
+        assertEquals(1, response.getSize());
+        verify(todoRepository, times(1)).findFirstSliceByTitle(eq("100!%!_done!!"), any(Pageable.class));
+    }
+
+    @Test
+    void testFilterByTags_MatchAll_NormalizesTagsAndReturnsFacets() {
+        // Arrange
+        String[] expectedTags = {"home", "urgent"};
+        when(todoRepository.findFirstSliceByAllTags(eq(expectedTags), any(Pageable.class)))
+                .thenReturn(List.of(mockResponse));
+        when(todoRepository.countTagsMatchingAll("{\"home\",\"urgent\"}", TodoServiceImpl.MAX_TAG_FACETS))
+                .thenReturn(List.<Object[]>of(new Object[]{"home", 3L}, new Object[]{"urgent", 1L}));
+
+        // Act
+        TagFilterPage response = todoService.filterByTags(List.of(" Urgent", "home,urgent"), TagMatch.ALL, null, 20, 7L);
+
+        // Assert
+        assertEquals(1, response.getSize());
+        assertFalse(response.isHasNext());
+        assertEquals(2, response.getFacets().size());
+        assertEquals("home", response.getFacets().get(0).getTag());
+        assertEquals(3L, response.getFacets().get(0).getCount());
+        verify(todoRepository, never()).findFirstSliceByAnyTag(any(), any(Pageable.class));
+    }
+
+    @Test
+    void testFilterByTags_AfterCursor_SkipsFacets() {
+        // Arrange
+        TodoCursor cursor = new TodoCursor(LocalDateTime.now(), 5L);
+        when(todoRepository.findSliceByAnyTagAfter(any(), eq(cursor.createdAt()), eq(5L), any(Pageable.class)))
+                .thenReturn(List.of(mockResponse));
+
+        // Act
+        TagFilterPage response = todoService.filterByTags(List.of("urgent"), TagMatch.ANY, cursor.encode(), 20, 7L);
+
+        // Assert
+        assertNull(response.getFacets());
+        verify(todoRepository, never()).countTagsMatchingAny(anyString(), anyInt());
+    }
+
+    @Test
+    void testToArrayLiteral_QuotesAndEscapesElements() {
+        // Act
+        String literal = TodoServiceImpl.toArrayLiteral(new String[]{"a b", "say \"hi\"", "back\\slash"});
+
+        // Assert
+        assertEquals("{\"a b\",\"say \\\"hi\\\"\",\"back\\\\slash\"}", literal);
+    }
+
+    @Test
+    void testExecuteBatch_MixedOperations_ReportsPerItemResults() {
+        // Arrange
+        TodoBatchRequest batch = new TodoBatchRequest(List.of(
+                new TodoBatchOperation(BatchOperationType.CREATE, null, createRequest, null),
+                new TodoBatchOperation(BatchOperationType.UPDATE, 1L, null, updateRequest),
+                new TodoBatchOperation(BatchOperationType.DELETE, 999L, null, null)));
+        when(todoRepository.findAllById(any())).thenReturn(List.of(mockTodo));
+        when(todoRepository.save(any(Todo.class))).thenAnswer(invocation -> {
+            Todo todo = invocation.getArgument(0);
+            todo.setId(2L);
+            return todo;
+        });
+
+        // Act
+        TodoBatchResponse response = todoService.executeBatch(batch);
+
+        // Assert
+        assertEquals(2, response.getSucceeded());
+        assertEquals(1, response.getFailed());
+        assertEquals(201, response.getResults().get(0).getStatus());
+        assertEquals(2L, response.getResults().get(0).getId());
+        assertEquals(200, response.getResults().get(1).getStatus());
+        assertEquals("Updated Todo", response.getResults().get(1).getTodo().getTitle());
+        assertEquals(404, response.getResults().get(2).getStatus());
+        verify(todoRepository, times(1)).findAllById(any());
+        verify(todoRepository, times(1)).flush();
+        verify(todoRepository, never()).delete(any(Todo.class));
+        verify(todoPageCache, times(1)).bumpGeneration();
+    }
+
+    @Test
+    void testExecuteBatch_OperationMissingPayload_ReportsBadRequest() {
+        // Arrange
+        TodoBatchRequest batch = new TodoBatchRequest(List.of(
+                new TodoBatchOperation(BatchOperationType.CREATE, null, null, null)));
+        when(todoRepository.findAllById(any())).thenReturn(List.of());
+
+        // Act
+        TodoBatchResponse response = todoService.executeBatch(batch);
+
+        // Assert
+        assertEquals(0, response.getSucceeded());
+        assertEquals(400, response.getResults().get(0).getStatus());
+        verify(todoRepository, never()).save(any(Todo.class));
+        verify(todoPageCache, never()).bumpGeneration();
+    }
+
+    @Test
+    void testExecuteBatch_UpdateThenDeleteSameId_RejectsBoth() {
+        // Arrange
+        TodoBatchRequest batch = new TodoBatchRequest(List.of(
+                new TodoBatchOperation(BatchOperationType.UPDATE, 1L, null, updateRequest),
+                new TodoBatchOperation(BatchOperationType.DELETE, 1L, null, null)));
+        when(todoRepository.findAllById(any())).thenReturn(List.of(mockTodo));
+
+        // Act
+        TodoBatchResponse response = todoService.executeBatch(batch);
+
+        // Assert
+        assertEquals(0, response.getSucceeded());
+        assertEquals(400, response.getResults().get(0).getStatus());
+        assertNull(response.getResults().get(0).getTodo());
+        assertEquals(400, response.getResults().get(1).getStatus());
+        assertEquals("Test Todo", mockTodo.getTitle());
+        verify(todoRepository, never()).delete(any(Todo.class));
+        verify(todoPageCache, never()).bumpGeneration();
     }
 }
@@ -0,0 +1,79 @@
+package com.miniproject.todolist.service.impl;
+
+import com.miniproject.todolist.dto.TodoStatsResponse;
+import com.miniproject.todolist.enums.Priority;
+import com.miniproject.todolist.repository.TodoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TodoStatsServiceImplTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @InjectMocks
+    private TodoStatsServiceImpl todoStatsService;
+
+    @Test
+    void getStats_SumsCountersByStatusAndPriority() {
+        // Arrange
+        when(todoRepository.sumStats()).thenReturn(List.of(
+                new Object[]{true, "HIGH", new BigDecimal(4)},
+                new Object[]{false, "HIGH", new BigDecimal(2)},
+                new Object[]{false, "LOW", new BigDecimal(7)}));
+        when(todoRepository.countOverdue(any(LocalDateTime.class))).thenReturn(3L);
+
+        // Act
+        TodoStatsResponse stats = todoStatsService.getStats();
+
+        // Assert
+        assertEquals(13, stats.getTotal());
+        assertEquals(4, stats.getCompleted());
+        assertEquals(9, stats.getOpen());
+        assertEquals(3, stats.getOverdue());
+        assertEquals(6L, stats.getByPriority().get(Priority.HIGH));
+        assertEquals(0L, stats.getByPriority().get(Priority.MEDIUM));
+        assertEquals(7L, stats.getByPriority().get(Priority.LOW));
+    }
+
+    @Test
+    void reconcile_RebuildsCountersUnderLock() {
+        // Arrange
+        when(todoRepository.tryLockStatsReconciliation()).thenReturn(true);
+
+        // Act
+        todoStatsService.reconcile();
+
+        // Assert
+        InOrder inOrder = inOrder(todoRepository);
+        inOrder.verify(todoRepository).lockStats();
+        inOrder.verify(todoRepository).clearStats();
+        inOrder.verify(todoRepository).rebuildStats();
+    }
+
+    @Test
+    void reconcile_WhenAnotherInstanceHoldsTheLock_DoesNothing() {
+        // Arrange
+        when(todoRepository.tryLockStatsReconciliation()).thenReturn(false);
+
+        // Act
+        todoStatsService.reconcile();
+
+        // Assert
+        verify(todoRepository, never()).lockStats();
+        verify(todoRepository, never()).rebuildStats();
+    }
+}
@@ -0,0 +1,63 @@
+package com.miniproject.todolist.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvTest {
+
+    @Test
+    void recordReader_SplitsPlainRecords() throws IOException {
+        // Arrange
+        Csv.RecordReader reader = new Csv.RecordReader(new StringReader("title,tags\r\nBuy milk,home\n"));
+
+        // Act & Assert
+        assertEquals(List.of("title", "tags"), reader.next());
+        assertEquals(1, reader.recordLine());
+        assertEquals(List.of("Buy milk", "home"), reader.next());
+        assertEquals(2, reader.recordLine());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void recordReader_HandlesQuotedFieldsSpanningLines() throws IOException {
+        // Arrange
+        String input = "\"Say \"\"hi\"\", then leave\",\"line1\nline2\",\n" +
+                "Next,,last";
+        Csv.RecordReader reader = new Csv.RecordReader(new StringReader(input));
+
+        // Act
+        List<String> first = reader.next();
+        List<String> second = reader.next();
+
+        // Assert
+        assertEquals(List.of("Say \"hi\", then leave", "line1\nline2", ""), first);
+        assertEquals(List.of("Next", "", "last"), second);
+        assertEquals(3, reader.recordLine());
+    }
+
+    @Test
+    void recordReader_RejectsUnterminatedQuote() throws IOException {
+        // Arrange
+        Csv.RecordReader reader = new Csv.RecordReader(new StringReader("\"never closed,x\n"));
+
+        // Act & Assert
+        assertThrows(IOException.class, reader::next);
+    }
+
+    @Test
+    void escape_RoundTripsThroughRecordReader() throws IOException {
+        // Arrange
+        String value = "a,\"b\"\nc";
+
+        // Act
+        List<String> record = new Csv.RecordReader(new StringReader(Csv.escape(value) + "\n")).next();
+
+        // Assert
+        assertEquals(List.of(value), record);
+    }
+}
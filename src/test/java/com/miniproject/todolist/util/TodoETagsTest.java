@@ -0,0 +1,43 @@
+package com.miniproject.todolist.util;
+
+import com.miniproject.todolist.dto.TodoResponse;
+import com.miniproject.todolist.exception.TodoVersionMismatchException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoETagsTest {
+
+    @Test
+    void of_CombinesIdAndVersion() {
+        // Arrange
+        TodoResponse todo = new TodoResponse();
+        todo.setId(7L);
+        todo.setVersion(3L);
+
+        // Act & Assert
+        assertEquals("\"7-3\"", TodoETags.of(todo));
+    }
+
+    @Test
+    void expectedVersion_ReadsVersionFromOwnTag() {
+        // Act & Assert
+        assertEquals(3L, TodoETags.expectedVersion(7L, "\"7-3\""));
+        assertEquals(4L, TodoETags.expectedVersion(7L, "\"9-1\", \"7-4\""));
+    }
+
+    @Test
+    void expectedVersion_NoHeaderOrWildcard_SkipsCheck() {
+        // Act & Assert
+        assertNull(TodoETags.expectedVersion(7L, null));
+        assertNull(TodoETags.expectedVersion(7L, "*"));
+    }
+
+    @Test
+    void expectedVersion_ForeignOrWeakTag_FailsPrecondition() {
+        // Act & Assert
+        assertThrows(TodoVersionMismatchException.class, () -> TodoETags.expectedVersion(7L, "\"8-3\""));
+        assertThrows(TodoVersionMismatchException.class, () -> TodoETags.expectedVersion(7L, "W/\"7-3\""));
+        assertThrows(TodoVersionMismatchException.class, () -> TodoETags.expectedVersion(7L, "\"g12\""));
+    }
+}